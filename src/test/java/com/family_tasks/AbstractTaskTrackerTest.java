@@ -7,9 +7,20 @@ import com.family_tasks.dto.user.User;
 import com.family_tasks.dto.user.UserEntity;
 import com.family_tasks.enums.TaskPriority;
 import com.family_tasks.enums.TaskStatus;
-import io.github.cdimascio.dotenv.Dotenv;
+import com.family_tasks.utils.ApiSpecification;
+import com.family_tasks.utils.AsyncFixtures;
+import com.family_tasks.utils.CreatedIdsTrackingFilter;
+import com.family_tasks.utils.FixtureGraph;
+import com.family_tasks.utils.capture.CaptureOnFailureExtension;
+import com.family_tasks.utils.capture.CapturingFilter;
+import com.family_tasks.utils.db.CleanupRegistry;
+import com.family_tasks.utils.db.DatabaseReset;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -17,29 +28,50 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static com.family_tasks.ValidationConstants.*;
 import static com.family_tasks.utils.TestDataBaseUtils.*;
 import static com.family_tasks.utils.TestValuesUtils.randomString;
+import static com.family_tasks.utils.db.BulkLoader.reserveIds;
 
+@ExtendWith(CaptureOnFailureExtension.class)
 public abstract class AbstractTaskTrackerTest {
 
     @BeforeAll
-    static void setup() {
-        Dotenv dotenv = Dotenv.configure()
-                .ignoreIfMissing()
-                .load();
+    static synchronized void setup() {
+        RestAssured.requestSpecification = ApiSpecification.get();
 
-        dotenv.get("TASK_TRACKER_BASE_URL");
+        if (RestAssured.filters().stream().noneMatch(CreatedIdsTrackingFilter.class::isInstance)) {
+            RestAssured.filters(new CreatedIdsTrackingFilter());
+        }
+        if (RestAssured.filters().stream().noneMatch(CapturingFilter.class::isInstance)) {
+            RestAssured.filters(new CapturingFilter());
+        }
+        DatabaseReset.beforeAll();
     }
 
+    @BeforeEach
+    public void startTracking() {
+        CleanupRegistry.begin();
+    }
+
+    /**
+     * Deletes only the rows created by the test, either through the fixture helpers or through the API,
+     * unless a snapshot-based {@code DB_RESET_STRATEGY} is configured.
+     */
     @AfterEach
     public void clearDB() {
-        executeDbQuery("DELETE FROM executors_tasks");
-        executeDbQuery("DELETE FROM rewards");
-        executeDbQuery("DELETE FROM tasks");
-        executeDbQuery("DELETE FROM groups");
-        executeDbQuery("DELETE FROM users");
+        try {
+            DatabaseReset.afterEach();
+        } finally {
+            CleanupRegistry.end();
+        }
+    }
+
+    @AfterAll
+    static void resetDB() {
+        DatabaseReset.afterAll();
     }
 
     protected static UserEntity buildUserEntity(Integer groupId) {
@@ -67,29 +99,38 @@ public abstract class AbstractTaskTrackerTest {
                 .admin(true);
     }
 
+    /**
+     * Inserts a user and a group owned by them with a single statement, see {@link FixtureGraph}.
+     */
     protected GroupEntity createUserWithGroup() {
-        UserEntity owner = buildUserEntity(null);
-        int ownerId = insertUserIntoDB(owner);
-
-        GroupEntity group = buildGroupEntity(ownerId);
-        int groupId = insertGroupIntoDB(group);
+        return FixtureGraph.group(buildGroupEntity(null), buildUserEntity(null)).insert();
+    }
 
-        owner.setGroupId(groupId);
-        updateUserGroupIdInDB(owner);
-        return group;
+    /**
+     * Same as {@link #createUserWithGroup()} on a virtual thread, so several groups can be set up concurrently,
+     * each in one round trip.
+     */
+    protected CompletableFuture<GroupEntity> createUserWithGroupAsync() {
+        return AsyncFixtures.supply(this::createUserWithGroup);
     }
 
     public static List<UserEntity> createAndInsertUsersForGroup(int groupId, int count) {
         List<UserEntity> users = new ArrayList<>();
 
         for (int i = 0; i < count; i++) {
-            UserEntity user = buildUserEntity(groupId);
-            insertUserIntoDB(user);
-            users.add(user);
+            users.add(buildUserEntity(groupId));
         }
+        insertUsersIntoDB(users);
         return users;
     }
 
+    /**
+     * An id taken from the users sequence and never inserted, so no concurrently running test can create it.
+     */
+    protected static int nonExistentUserId() {
+        return reserveIds("users", 1)[0];
+    }
+
     protected TaskEntity buildTaskEntity(Integer userId) {
         return TaskEntity.builder()
                 .taskId(UUID.randomUUID().toString())
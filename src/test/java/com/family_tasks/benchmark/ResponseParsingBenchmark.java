@@ -0,0 +1,80 @@
+package com.family_tasks.benchmark;
+
+import com.family_tasks.utils.response.ResponseParser;
+import com.family_tasks.utils.response.TaskResponse;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.family_tasks.utils.TestValuesUtils.randomString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Cost of reading every field of one task response: a GPath evaluation over the body per getter, as the
+ * removed {@code TaskResponseWrapper} did through {@code response.path(...)}, one parsed {@link JsonPath}
+ * queried per field, and a single streaming pass into {@link TaskResponse}.
+ * <p>
+ * Run {@link #main(String[])}; the GC profiler adds the bytes allocated per response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseParsingBenchmark {
+
+    private static final String[] FIELDS = {"taskId", "name", "status", "description", "priority", "reporterId",
+            "confidential", "rewardsPoints", "deadline", "createdAt", "updatedAt"};
+
+    private String body;
+    private byte[] bodyBytes;
+
+    @Setup
+    public void setUp() {
+        body = """
+                {"taskId":"%s","name":"task_%s","status":"IN_PROGRESS","description":"%s","priority":"HIGH",
+                 "reporterId":17,"confidential":false,"rewardsPoints":40,"deadline":"2025-03-01",
+                 "createdAt":"2025-01-10T08:15:30.123456","updatedAt":"2025-01-11T09:00:00.654321",
+                 "executorIds":[17,18,19]}""".formatted(UUID.randomUUID(), randomString(20), randomString(200));
+        bodyBytes = body.getBytes(UTF_8);
+    }
+
+    @Benchmark
+    public void pathPerGetter(Blackhole bh) {
+        for (String field : FIELDS) {
+            bh.consume(JsonPath.from(body).<Object>get(field));
+        }
+        bh.consume(new HashSet<>(JsonPath.from(body).<List<Integer>>get("executorIds")));
+    }
+
+    @Benchmark
+    public void parsedJsonPath(Blackhole bh) {
+        JsonPath jsonPath = JsonPath.from(body);
+        for (String field : FIELDS) {
+            bh.consume(jsonPath.<Object>get(field));
+        }
+        bh.consume(new HashSet<>(jsonPath.<List<Integer>>get("executorIds")));
+    }
+
+    @Benchmark
+    public TaskResponse streamingRecord() {
+        return ResponseParser.task(bodyBytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResponseParsingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,134 @@
+package com.family_tasks.benchmark;
+
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.enums.TaskPriority;
+import com.family_tasks.enums.TaskStatus;
+import com.family_tasks.utils.mapper.TaskMapper;
+import com.family_tasks.utils.response.ResponseParser;
+import com.family_tasks.utils.response.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.family_tasks.utils.TestValuesUtils.randomString;
+
+/**
+ * Compares mapping a {@code GET /v1/tasks} body to {@link TaskEntity} objects the way the tests did it, with a
+ * GPath lookup per field, against one streaming pass of {@link ResponseParser} followed by the generated
+ * {@link TaskMapper}, and the same pass with a hand-written copy as the lower bound.
+ * <p>
+ * Run {@link #main(String[])}; the GC profiler adds the allocation rate per operation to the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private String json;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        ArrayNode tasks = OBJECT_MAPPER.createArrayNode();
+        for (int i = 0; i < rows; i++) {
+            ObjectNode task = tasks.addObject();
+            task.put("taskId", UUID.randomUUID().toString());
+            task.put("name", "task_" + randomString(20));
+            task.put("status", TaskStatus.values()[i % TaskStatus.values().length].name());
+            task.put("description", randomString(200));
+            task.put("priority", TaskPriority.values()[i % TaskPriority.values().length].name());
+            task.put("reporterId", i % 50);
+            task.put("confidential", i % 10 == 0);
+            task.put("rewardsPoints", i % 100);
+            task.put("deadline", LocalDate.now().plusDays(i % 30).toString());
+            task.put("createdAt", LocalDateTime.now().toString());
+            task.put("updatedAt", LocalDateTime.now().toString());
+            task.putArray("executorIds").add(i % 50).add((i + 1) % 50);
+        }
+        json = OBJECT_MAPPER.writeValueAsString(tasks);
+        jsonBytes = OBJECT_MAPPER.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public void gPathPerField(Blackhole bh) {
+        JsonPath jsonPath = new JsonPath(json);
+        for (int i = 0; i < rows; i++) {
+            String element = "[" + i + "].";
+            bh.consume(TaskEntity.builder()
+                    .taskId(jsonPath.getString(element + "taskId"))
+                    .name(jsonPath.getString(element + "name"))
+                    .status(jsonPath.getString(element + "status"))
+                    .description(jsonPath.getString(element + "description"))
+                    .priority(jsonPath.getString(element + "priority"))
+                    .reporterId(jsonPath.getInt(element + "reporterId"))
+                    .confidential(jsonPath.getBoolean(element + "confidential"))
+                    .rewardsPoints(jsonPath.getInt(element + "rewardsPoints"))
+                    .deadline(LocalDate.parse(jsonPath.getString(element + "deadline")))
+                    .createdAt(LocalDateTime.parse(jsonPath.getString(element + "createdAt")))
+                    .updatedAt(LocalDateTime.parse(jsonPath.getString(element + "updatedAt")))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void streamingParseWithGeneratedMapper(Blackhole bh) {
+        for (TaskResponse task : ResponseParser.tasks(jsonBytes)) {
+            bh.consume(TaskMapper.INSTANCE.toEntity(task));
+        }
+    }
+
+    @Benchmark
+    public void streamingParseWithHandCopy(Blackhole bh) {
+        for (TaskResponse task : ResponseParser.tasks(jsonBytes)) {
+            bh.consume(TaskEntity.builder()
+                    .taskId(task.taskId())
+                    .name(task.name())
+                    .status(task.status())
+                    .description(task.description())
+                    .priority(task.priority())
+                    .reporterId(task.reporterId())
+                    .confidential(task.confidential())
+                    .rewardsPoints(task.rewardsPoints())
+                    .deadline(LocalDate.parse(task.deadline()))
+                    .createdAt(LocalDateTime.parse(task.createdAt()))
+                    .updatedAt(LocalDateTime.parse(task.updatedAt()))
+                    .build());
+        }
+    }
+
+    /**
+     * GPath lookups take minutes per operation on 100k rows, so that variant only runs on the small list.
+     */
+    public static void main(String[] args) throws RunnerException {
+        String benchmark = TaskMappingBenchmark.class.getSimpleName();
+        new Runner(new OptionsBuilder()
+                .include(benchmark + ".gPathPerField")
+                .param("rows", "1000")
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+        new Runner(new OptionsBuilder()
+                .include(benchmark + ".streamingParse.*")
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
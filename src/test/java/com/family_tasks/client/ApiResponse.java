@@ -0,0 +1,52 @@
+package com.family_tasks.client;
+
+import com.family_tasks.utils.response.ErrorResponse;
+import com.family_tasks.utils.response.GroupResponse;
+import com.family_tasks.utils.response.ResponseParser;
+import com.family_tasks.utils.response.TaskResponse;
+import com.family_tasks.utils.response.UserResponse;
+
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Status and raw body of a {@link TaskTrackerClient} call. The body is only decoded when asked for, so load
+ * scenarios that check the status alone don't pay for JSON parsing; it is decoded by {@link ResponseParser} into
+ * the same records the RestAssured tests use.
+ */
+public record ApiResponse(int statusCode, byte[] body) {
+
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    public String bodyAsString() {
+        return new String(body, UTF_8);
+    }
+
+    public TaskResponse task() {
+        return ResponseParser.task(body);
+    }
+
+    public List<TaskResponse> tasks() {
+        return ResponseParser.tasks(body);
+    }
+
+    public UserResponse user() {
+        return ResponseParser.user(body);
+    }
+
+    public GroupResponse group() {
+        return ResponseParser.group(body);
+    }
+
+    public ErrorResponse error() {
+        return ResponseParser.error(body);
+    }
+
+    @Override
+    public String toString() {
+        return statusCode + " " + bodyAsString();
+    }
+}
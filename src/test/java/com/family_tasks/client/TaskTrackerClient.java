@@ -0,0 +1,161 @@
+package com.family_tasks.client;
+
+import com.family_tasks.dto.group.GroupEntity;
+import com.family_tasks.dto.task.TaskCreateRequest;
+import com.family_tasks.dto.task.TaskUpdateRequest;
+import com.family_tasks.dto.user.User;
+import com.family_tasks.enums.TaskFilter;
+import com.family_tasks.utils.ApiSpecification;
+import com.family_tasks.utils.TestConfig;
+import com.family_tasks.utils.db.CleanupRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+import static com.family_tasks.UrlConstant.*;
+
+/**
+ * Typed, non-blocking client of the task-tracker API on {@link HttpClient}. Requests prefer HTTP/2 and fall back
+ * to HTTP/1.1 when the server doesn't support it; connections are kept alive and reused by the underlying client.
+ * Clients made by {@link #create(URI, boolean)} share one {@link HttpClient} per base URI for the life of the JVM,
+ * so creating a client per test opens no new connections or executors.
+ * <p>
+ * Clients created with {@link #forTests()} register the ids of created users, groups and tasks with the
+ * {@link CleanupRegistry} of the calling test, like the RestAssured tracking filter does.
+ */
+public final class TaskTrackerClient {
+
+    private static final ConcurrentMap<URI, HttpClient> HTTP_CLIENTS = new ConcurrentHashMap<>();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final boolean trackCreatedIds;
+
+    public TaskTrackerClient(URI baseUri, HttpClient httpClient, Duration requestTimeout, boolean trackCreatedIds) {
+        this.baseUri = baseUri;
+        this.httpClient = httpClient;
+        this.requestTimeout = requestTimeout;
+        this.trackCreatedIds = trackCreatedIds;
+    }
+
+    /**
+     * A client for functional tests: the configured base URL, timeouts from {@code config.properties} and
+     * tracking of created ids.
+     */
+    public static TaskTrackerClient forTests() {
+        return create(ApiSpecification.baseUri(), true);
+    }
+
+    /**
+     * A client of the app at {@code baseUri}. Load scenarios whose rows are removed by other means should
+     * turn id tracking off, as the registry would keep every id created.
+     */
+    public static TaskTrackerClient create(URI baseUri, boolean trackCreatedIds) {
+        TestConfig config = TestConfig.get();
+        HttpClient httpClient = HTTP_CLIENTS.computeIfAbsent(baseUri, uri -> HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build());
+        return new TaskTrackerClient(baseUri, httpClient,
+                Duration.ofMillis(config.getSocketTimeoutMs()), trackCreatedIds);
+    }
+
+    //region Users
+
+    public CompletableFuture<ApiResponse> createUser(User user) {
+        return send(post(CREATE_USER_URI, user), (registry, response) -> registry.trackUser(response.user().id()));
+    }
+
+    public CompletableFuture<ApiResponse> getUser(int userId) {
+        return send(get(GET_USER_URI + "/" + userId), null);
+    }
+
+    //endregion
+
+    //region Groups
+
+    public CompletableFuture<ApiResponse> createGroup(int ownerId) {
+        return send(post(GROUP_URL, GroupEntity.builder().ownerId(ownerId).build()),
+                (registry, response) -> registry.trackGroup(response.group().groupId()));
+    }
+
+    //endregion
+
+    //region Tasks
+
+    public CompletableFuture<ApiResponse> createTask(TaskCreateRequest request) {
+        return send(post(TASKS_URI, request), (registry, response) -> registry.trackTask(response.task().taskId()));
+    }
+
+    public CompletableFuture<ApiResponse> getTask(String taskId, int userId) {
+        return send(get(TASKS_URI + "/" + taskId + "?userId=" + userId), null);
+    }
+
+    public CompletableFuture<ApiResponse> getTasks(int userId, TaskFilter filter) {
+        return send(get(TASKS_URI + "?userId=" + userId + "&filter=" + filter.name()), null);
+    }
+
+    /**
+     * Same as {@link #getTasks(int, TaskFilter)} with the body handed to {@code bodyHandler}, so large lists can be
+     * streamed instead of buffered.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> getTasks(int userId, TaskFilter filter, HttpResponse.BodyHandler<T> bodyHandler) {
+        return httpClient.sendAsync(get(TASKS_URI + "?userId=" + userId + "&filter=" + filter.name()), bodyHandler);
+    }
+
+    public CompletableFuture<ApiResponse> updateTask(String taskId, int userId, TaskUpdateRequest request) {
+        return send(request(TASKS_URI + "/" + taskId + "?userId=" + userId)
+                .PUT(jsonBody(request))
+                .build(), null);
+    }
+
+    //endregion
+
+    private CompletableFuture<ApiResponse> send(HttpRequest request, BiConsumer<CleanupRegistry, ApiResponse> createdIdTracker) {
+        CleanupRegistry registry = trackCreatedIds && createdIdTracker != null ? CleanupRegistry.current() : null;
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    ApiResponse apiResponse = new ApiResponse(response.statusCode(), response.body());
+                    if (registry != null && response.statusCode() == 200) {
+                        createdIdTracker.accept(registry, apiResponse);
+                    }
+                    return apiResponse;
+                });
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        return request(path).POST(jsonBody(body)).build();
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery) {
+        return HttpRequest.newBuilder(baseUri.resolve(pathAndQuery))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher jsonBody(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize request body " + body, e);
+        }
+    }
+}
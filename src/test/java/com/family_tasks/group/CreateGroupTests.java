@@ -3,15 +3,19 @@ package com.family_tasks.group;
 import com.family_tasks.AbstractTaskTrackerTest;
 import com.family_tasks.dto.group.GroupEntity;
 import com.family_tasks.dto.user.UserEntity;
+import com.family_tasks.utils.mapper.GroupMapper;
+import com.family_tasks.utils.response.GroupResponse;
+import com.family_tasks.utils.schema.ApiSchema;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
 
 import static com.family_tasks.UrlConstant.GROUP_URL;
 import static com.family_tasks.ValidationMessage.*;
 import static com.family_tasks.utils.TestDataBaseUtils.insertUserIntoDB;
+import static com.family_tasks.utils.schema.SchemaValidator.assertMatches;
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.notNullValue;
 
 public class CreateGroupTests extends AbstractTaskTrackerTest {
 
@@ -32,13 +36,13 @@ public class CreateGroupTests extends AbstractTaskTrackerTest {
                 .post(GROUP_URL)
                 .then()
                 .statusCode(200)
-                .body("ownerId", equalTo(ownerId))
-                .body("groupId", notNullValue())
                 .extract()
                 .response();
 
-        System.out.println("Group created with id " + response.getBody().path("groupId"));
-        response.prettyPrint();
+        assertMatches(ApiSchema.GROUP, response);
+        GroupEntity created = GroupMapper.INSTANCE.toEntity(GroupResponse.from(response));
+        assertThat(created.getOwnerId()).isEqualTo(ownerId);
+        assertThat(created.getGroupId()).isNotNull();
     }
 
     @Test
@@ -51,18 +55,14 @@ public class CreateGroupTests extends AbstractTaskTrackerTest {
                 .ownerId(ownerId)
                 .build();
 
-        Response response = given()
+        given()
                 .contentType("application/json")
                 .body(group2)
                 .when()
                 .post(GROUP_URL)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(USER_ALREADY_IS_OWNER,ownerId)))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(USER_ALREADY_IS_OWNER,ownerId)));
     }
 
     @Test
@@ -76,18 +76,14 @@ public class CreateGroupTests extends AbstractTaskTrackerTest {
                 .ownerId(foreignUser)
                 .build();
 
-        Response response = given()
+        given()
                 .contentType("application/json")
                 .body(group2)
                 .when()
                 .post(GROUP_URL)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(USER_ALREADY_HAS_GROUP,foreignUser)))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(USER_ALREADY_HAS_GROUP,foreignUser)));
     }
 
     @Test
@@ -97,18 +93,14 @@ public class CreateGroupTests extends AbstractTaskTrackerTest {
                 .ownerId(null)
                 .build();
 
-        Response response = given()
+        given()
                 .contentType("application/json")
                 .body(group2)
                 .when()
                 .post(GROUP_URL)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(GROUP_OWNER_NOT_SPECIFIED)))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(GROUP_OWNER_NOT_SPECIFIED)));
     }
 
     @Test
@@ -117,23 +109,19 @@ public class CreateGroupTests extends AbstractTaskTrackerTest {
         UserEntity owner = buildUserEntity(null);
         int ownerId = insertUserIntoDB(owner);
 
-        int invalidOwnerId = ownerId +1;
+        int invalidOwnerId = nonExistentUserId();
 
         GroupEntity group2 = GroupEntity.builder()
                 .ownerId(invalidOwnerId)
                 .build();
 
-        Response response = given()
+        given()
                 .contentType("application/json")
                 .body(group2)
                 .when()
                 .post(GROUP_URL)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(USER_NOT_EXIST, invalidOwnerId)))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(USER_NOT_EXIST, invalidOwnerId)));
     }
 }
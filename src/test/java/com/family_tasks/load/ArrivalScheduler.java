@@ -0,0 +1,75 @@
+package com.family_tasks.load;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts requests at a fixed arrival rate, an open workload model: the {@code i}-th request is due at
+ * {@code start + i / rate} no matter how many earlier ones are still waiting for a response, so a slow app
+ * doesn't lower the offered load.
+ * <p>
+ * One platform thread keeps the schedule. Each time it wakes up it hands every due request to its own virtual
+ * thread, so rates above the resolution of {@link LockSupport#parkNanos(long)} are met by dispatching in
+ * batches. Requests receive their sequence number and their intended start time, from which latency should be
+ * measured.
+ */
+public final class ArrivalScheduler {
+
+    private ArrivalScheduler() {
+    }
+
+    /**
+     * Runs the schedule on the calling thread and returns once the last request has been dispatched; responses
+     * may still be outstanding.
+     *
+     * @param request called on a virtual thread for each request
+     */
+    public static Result run(double ratePerSecond, Duration duration, Arrival request) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + ratePerSecond);
+        }
+        double intervalNanos = 1_000_000_000.0 / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long dispatched = 0;
+        long maxLagNanos = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                long intended = start + (long) (dispatched * intervalNanos);
+                if (intended >= end) {
+                    break;
+                }
+                long now = System.nanoTime();
+                if (intended > now) {
+                    LockSupport.parkNanos(intended - now);
+                    continue;
+                }
+                maxLagNanos = Math.max(maxLagNanos, now - intended);
+                long sequence = dispatched;
+                executor.execute(() -> request.start(sequence, intended));
+                dispatched++;
+            }
+        }
+        return new Result(dispatched, Duration.ofNanos(System.nanoTime() - start), Duration.ofNanos(maxLagNanos));
+    }
+
+    @FunctionalInterface
+    public interface Arrival {
+
+        /**
+         * @param sequence           the number of requests dispatched before this one
+         * @param intendedStartNanos when the request was due, in {@link System#nanoTime()} terms
+         */
+        void start(long sequence, long intendedStartNanos);
+    }
+
+    /**
+     * @param maxLag the longest a request was dispatched after its intended start time; a large value means the
+     *               generator itself couldn't keep up with the rate
+     */
+    public record Result(long dispatched, Duration elapsed, Duration maxLag) {
+    }
+}
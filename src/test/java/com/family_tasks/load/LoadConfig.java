@@ -0,0 +1,66 @@
+package com.family_tasks.load;
+
+import com.family_tasks.utils.ApiSpecification;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of a load run, read from {@code load.*} system properties; the target is the base URL the tests use.
+ *
+ * @param ratePerSecond     requests started per second, whatever the response times
+ * @param duration          how long requests are started for
+ * @param families          families created before the run and used by the requests
+ * @param spareOwners       users without a group created before the run for the group creations to use
+ * @param maxInFlight       requests awaiting a response above which new ones are dropped instead of sent, so an
+ *                          unresponsive app can't exhaust the generator's memory
+ * @param outputDir         where the latency histogram log and percentiles are written
+ * @param mix               a bundled {@link WorkloadMix} name or the path of a mix file
+ * @param schemaSampleEvery one in how many responses is validated against the API's JSON schemas
+ */
+public record LoadConfig(URI baseUri,
+                         double ratePerSecond,
+                         Duration duration,
+                         int families,
+                         int tasksPerFamily,
+                         int spareOwners,
+                         int maxInFlight,
+                         Path outputDir,
+                         String mix,
+                         int schemaSampleEvery) {
+
+    public static LoadConfig fromSystemProperties() {
+        return new LoadConfig(
+                ApiSpecification.baseUri(),
+                Double.parseDouble(System.getProperty("load.rate", "1000")),
+                parseDuration(System.getProperty("load.duration", "60s")),
+                Integer.getInteger("load.families", 1000),
+                Integer.getInteger("load.tasksPerFamily", 5),
+                Integer.getInteger("load.spareOwners", 1000),
+                Integer.getInteger("load.maxInFlight", 100_000),
+                Path.of(System.getProperty("load.outputDir", "target/load")),
+                System.getProperty("load.mix", "morning-rush"),
+                Integer.getInteger("load.schemaSampleEvery", 100));
+    }
+
+    /**
+     * Parses an ISO-8601 duration or a number followed by {@code ms}, {@code s}, {@code m} or {@code h}.
+     */
+    static Duration parseDuration(String value) {
+        String text = value.trim();
+        if (text.startsWith("P") || text.startsWith("p")) {
+            return Duration.parse(text);
+        }
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Invalid duration: " + value);
+        };
+    }
+}
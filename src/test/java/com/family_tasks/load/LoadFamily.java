@@ -0,0 +1,123 @@
+package com.family_tasks.load;
+
+import com.family_tasks.client.ApiResponse;
+import com.family_tasks.client.TaskTrackerClient;
+import com.family_tasks.dto.user.User;
+import com.family_tasks.enums.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import static com.family_tasks.utils.TestValuesUtils.randomString;
+
+/**
+ * A family created through the API before a load run: an owner, their group and the family's most recent tasks,
+ * which the read and update requests pick from, with the status the generator last set.
+ */
+public final class LoadFamily {
+
+    private static final int RECENT_TASKS = 64;
+    private static final int MAX_CONCURRENT_CREATES = 64;
+
+    private final int ownerId;
+    private final int groupId;
+    private final AtomicReferenceArray<TrackedTask> recentTasks = new AtomicReferenceArray<>(RECENT_TASKS);
+    private final AtomicInteger taskCount = new AtomicInteger();
+
+    private LoadFamily(int ownerId, int groupId) {
+        this.ownerId = ownerId;
+        this.groupId = groupId;
+    }
+
+    /**
+     * Creates {@code count} families with {@code tasksPerFamily} tasks each, at most
+     * {@value #MAX_CONCURRENT_CREATES} families at a time, so thousands of families don't open thousands of
+     * connections to the app at once.
+     */
+    public static List<LoadFamily> createAll(TaskTrackerClient client, int count, int tasksPerFamily) {
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_CREATES);
+        List<CompletableFuture<LoadFamily>> families = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            permits.acquireUninterruptibly();
+            families.add(create(client, tasksPerFamily).whenComplete((family, error) -> permits.release()));
+        }
+        List<LoadFamily> created = new ArrayList<>(count);
+        families.forEach(family -> created.add(family.join()));
+        return created;
+    }
+
+    private static CompletableFuture<LoadFamily> create(TaskTrackerClient client, int tasksPerFamily) {
+        return client.createUser(User.builder().name("load_" + randomString(8)).admin(true).build())
+                .thenApply(response -> successful(response).user().id())
+                .thenCompose(ownerId -> client.createGroup(ownerId)
+                        .thenApply(response -> new LoadFamily(ownerId, successful(response).group().groupId())))
+                .thenCompose(family -> CompletableFuture.allOf(IntStream.range(0, tasksPerFamily)
+                                .mapToObj(i -> client.createTask(
+                                                Operation.taskCreateRequest(family.ownerId, ThreadLocalRandom.current()))
+                                        .thenAccept(response -> family.addTask(
+                                                successful(response).task().taskId(), TaskStatus.TO_DO)))
+                                .toArray(CompletableFuture[]::new))
+                        .thenApply(ignored -> family));
+    }
+
+    private static ApiResponse successful(ApiResponse response) {
+        if (!response.isSuccessful()) {
+            throw new IllegalStateException("Failed to create a load family: " + response);
+        }
+        return response;
+    }
+
+    public int ownerId() {
+        return ownerId;
+    }
+
+    public int groupId() {
+        return groupId;
+    }
+
+    public void addTask(String taskId, TaskStatus status) {
+        recentTasks.set(Math.floorMod(taskCount.getAndIncrement(), RECENT_TASKS), new TrackedTask(taskId, status));
+    }
+
+    /**
+     * One of the family's recent tasks, {@code null} if it has none.
+     */
+    public TrackedTask randomTask(RandomGenerator random) {
+        int known = Math.min(taskCount.get(), RECENT_TASKS);
+        return known == 0 ? null : recentTasks.get(random.nextInt(known));
+    }
+
+    /**
+     * A task of the family. Its status is the one last set by a successful request of this generator; concurrent
+     * updates of the same task may leave it behind the DB, which only skews the next transition picked.
+     */
+    public static final class TrackedTask {
+
+        private final String id;
+        private volatile TaskStatus status;
+
+        TrackedTask(String id, TaskStatus status) {
+            this.id = id;
+            this.status = status;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public TaskStatus status() {
+            return status;
+        }
+
+        void status(TaskStatus status) {
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.family_tasks.load;
+
+import com.family_tasks.client.TaskTrackerClient;
+import com.family_tasks.utils.dataset.ZipfSampler;
+import com.family_tasks.utils.latency.LatencyKey;
+import com.family_tasks.utils.latency.LatencyRecorder;
+import com.family_tasks.utils.schema.SchemaSampler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Puts load on the task-tracker API at a fixed arrival rate. Run it with the {@code load} Maven profile:
+ * <pre>
+ * mvn -Pload test -Dload.rate=20000 -Dload.duration=5m -Dload.mix=weekend
+ * </pre>
+ * The traffic follows a {@link WorkloadMix}. Every decision about a request, its operation, family, filter and
+ * target status, comes from a generator seeded with the mix seed and the request's sequence number, so a mix
+ * replays the same sequence of requests; which of a family's tasks is picked still depends on the responses.
+ * Families are picked by rank from a Zipf distribution, the first ones created being the hottest.
+ * <p>
+ * Latencies are recorded per endpoint and status from each request's intended start time; the interval
+ * histograms go to {@code latency.hlog} and the percentile spectra to {@code percentiles.txt} in
+ * {@code load.outputDir}. One in {@code load.schemaSampleEvery} responses is validated against the API's JSON
+ * schemas and the violations are counted in the summary. The families created for the run and the rows created
+ * during it are left in the DB.
+ */
+public final class LoadMain {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadMain() {
+    }
+
+    public static void main(String[] args) {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        TaskTrackerClient client = TaskTrackerClient.create(config.baseUri(), false);
+        WorkloadMix mix = WorkloadMix.load(config.mix());
+        System.out.println("Mix " + mix);
+
+        System.out.printf("Creating %d families at %s%n", config.families(), config.baseUri());
+        List<LoadFamily> families = LoadFamily.createAll(client, config.families(), config.tasksPerFamily());
+        System.out.printf("Creating %d spare group owners%n", config.spareOwners());
+        SpareOwners owners = SpareOwners.createAll(client, config.spareOwners());
+
+        ZipfSampler familyRanks = new ZipfSampler(families.size(), mix.familyZipfExponent());
+        LoadStats stats = new LoadStats();
+        SchemaSampler schemas = new SchemaSampler(config.schemaSampleEvery());
+        LatencyRecorder latencies = LatencyRecorder.toLog(config.outputDir().resolve("latency.hlog"));
+        ScheduledExecutorService intervals = Executors.newSingleThreadScheduledExecutor();
+        intervals.scheduleAtFixedRate(latencies::flushInterval, 1, 1, TimeUnit.SECONDS);
+        System.out.printf("Sending %.0f requests/s for %s%n", config.ratePerSecond(), config.duration());
+
+        ArrivalScheduler.Arrival arrival = (sequence, intendedStart) -> {
+            SplittableRandom random = new SplittableRandom(mix.seed() + sequence);
+            Operation operation = mix.operations().pick(random);
+            if (!stats.trySend(operation, config.maxInFlight())) {
+                return;
+            }
+            long sent = System.nanoTime();
+            try {
+                LoadFamily family = families.get(familyRanks.sample(random) - 1);
+                LoadRequest request = operation.prepare(client, owners, family, mix, random);
+                request.send().whenComplete((response, error) -> {
+                    long completed = System.nanoTime();
+                    if (error == null) {
+                        stats.completed(operation, response.statusCode());
+                        latencies.record(request.endpoint(), response.statusCode(), intendedStart, sent, completed);
+                        request.validate(schemas, response);
+                    } else {
+                        stats.failed(operation);
+                        latencies.record(request.endpoint(), LatencyKey.NO_RESPONSE, intendedStart, sent, completed);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Recorded under the operation's endpoint, as the request may not have been prepared
+                stats.failed(operation);
+                latencies.record(operation.endpoint(), LatencyKey.NO_RESPONSE, intendedStart, sent, System.nanoTime());
+            }
+        };
+        ArrivalScheduler.Result schedule;
+        try {
+            schedule = ArrivalScheduler.run(config.ratePerSecond(), config.duration(), arrival);
+
+            long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+            while (stats.inFlight() > 0 && System.nanoTime() < drainDeadline) {
+                LockSupport.parkNanos(Duration.ofMillis(50).toNanos());
+            }
+        } finally {
+            // The interval thread isn't a daemon, so the JVM would not exit on a failed run without this
+            intervals.shutdownNow();
+            latencies.close();
+        }
+        latencies.writePercentiles(config.outputDir().resolve("percentiles.txt"));
+
+        System.out.printf("Dispatched %d requests in %s (%.0f/s), max schedule lag %d ms%n",
+                schedule.dispatched(), schedule.elapsed(),
+                schedule.dispatched() / (schedule.elapsed().toNanos() / 1e9), schedule.maxLag().toMillis());
+        System.out.println(stats.summary());
+        System.out.println(latencies.summary());
+        System.out.printf("Schema checks: %d responses sampled, %d violations%n", schemas.checked(), schemas.violations());
+        System.out.println("Latency log and percentiles written to " + config.outputDir().toAbsolutePath());
+    }
+}
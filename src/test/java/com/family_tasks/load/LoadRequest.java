@@ -0,0 +1,35 @@
+package com.family_tasks.load;
+
+import com.family_tasks.client.ApiResponse;
+import com.family_tasks.utils.schema.ApiSchema;
+import com.family_tasks.utils.schema.SchemaSampler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A request of a load run ready to be sent, with the endpoint its latency is recorded under and the schema of
+ * its successful response body.
+ */
+record LoadRequest(String endpoint, ApiSchema schema, boolean listBody, Supplier<CompletableFuture<ApiResponse>> sender) {
+
+    CompletableFuture<ApiResponse> send() {
+        return sender.get();
+    }
+
+    /**
+     * Offers the body to the sampler: a successful one against {@link #schema()}, a client error one against
+     * {@link ApiSchema#ERROR}. Server errors aren't checked, as their body isn't part of the API.
+     */
+    void validate(SchemaSampler sampler, ApiResponse response) {
+        if (response.isSuccessful()) {
+            if (listBody) {
+                sampler.offerList(schema, response.body());
+            } else {
+                sampler.offer(schema, response.body());
+            }
+        } else if (response.statusCode() >= 400 && response.statusCode() < 500) {
+            sampler.offer(ApiSchema.ERROR, response.body());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.family_tasks.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a load run, updated concurrently by the request threads.
+ */
+public final class LoadStats {
+
+    private final Map<Operation, OperationCounters> operations = new EnumMap<>(Operation.class);
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+    private final LongAdder dropped = new LongAdder();
+
+    public LoadStats() {
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new OperationCounters());
+        }
+    }
+
+    /**
+     * Counts a request as sent unless {@code limit} requests are already awaiting a response, in which case it
+     * is counted as dropped and {@code false} is returned.
+     */
+    public boolean trySend(Operation operation, long limit) {
+        long current = inFlight.incrementAndGet();
+        if (current > limit) {
+            inFlight.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        maxInFlight.accumulate(current);
+        operations.get(operation).sent.increment();
+        return true;
+    }
+
+    public void completed(Operation operation, int statusCode) {
+        inFlight.decrementAndGet();
+        operations.get(operation).statuses.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+    }
+
+    public void failed(Operation operation) {
+        inFlight.decrementAndGet();
+        operations.get(operation).failed.increment();
+    }
+
+    public long inFlight() {
+        return inFlight.get();
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        operations.forEach((operation, counters) -> {
+            long sent = counters.sent.sum();
+            if (sent == 0) {
+                return;
+            }
+            Map<Integer, Long> statuses = new TreeMap<>();
+            counters.statuses.forEach((status, count) -> statuses.put(status, count.sum()));
+            summary.append(String.format("%-20s sent %10d  failed %8d  statuses %s%n",
+                    operation.endpoint(), sent, counters.failed.sum(), statuses));
+        });
+        summary.append(String.format("max in flight %d, dropped %d", maxInFlight.get(), dropped.sum()));
+        return summary.toString();
+    }
+
+    private static final class OperationCounters {
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+}
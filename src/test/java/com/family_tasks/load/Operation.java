@@ -0,0 +1,198 @@
+package com.family_tasks.load;
+
+import com.family_tasks.client.ApiResponse;
+import com.family_tasks.client.TaskTrackerClient;
+import com.family_tasks.dto.task.TaskCreateRequest;
+import com.family_tasks.dto.task.TaskUpdateRequest;
+import com.family_tasks.dto.user.User;
+import com.family_tasks.enums.TaskFilter;
+import com.family_tasks.enums.TaskPriority;
+import com.family_tasks.enums.TaskStatus;
+import com.family_tasks.utils.schema.ApiSchema;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import static com.family_tasks.UrlConstant.*;
+import static com.family_tasks.utils.TestValuesUtils.randomString;
+
+/**
+ * The requests a load run sends, each against one family. Payloads are built with the DTOs the functional tests
+ * use and pass the API's validation.
+ */
+public enum Operation {
+
+    CREATE_USER("POST " + CREATE_USER_URI, ApiSchema.USER) {
+        @Override
+        LoadRequest prepare(TaskTrackerClient client, SpareOwners owners, LoadFamily family, WorkloadMix mix,
+                            RandomGenerator random) {
+            User user = user(random);
+            return request(() -> client.createUser(user)
+                    .thenApply(response -> {
+                        if (response.isSuccessful()) {
+                            owners.add(response.user().id());
+                        }
+                        return response;
+                    }));
+        }
+    },
+    GET_USER("GET " + GET_USER_URI + "/{id}", ApiSchema.USER) {
+        @Override
+        LoadRequest prepare(TaskTrackerClient client, SpareOwners owners, LoadFamily family, WorkloadMix mix,
+                            RandomGenerator random) {
+            return request(() -> client.getUser(family.ownerId()));
+        }
+    },
+    CREATE_GROUP("POST " + GROUP_URL, ApiSchema.GROUP) {
+        @Override
+        LoadRequest prepare(TaskTrackerClient client, SpareOwners owners, LoadFamily family, WorkloadMix mix,
+                            RandomGenerator random) {
+            // A group needs an owner without one; when no spare owner is left, one is created instead
+            Integer ownerId = owners.poll();
+            if (ownerId == null) {
+                return CREATE_USER.prepare(client, owners, family, mix, random);
+            }
+            return request(() -> client.createGroup(ownerId));
+        }
+    },
+    CREATE_TASK("POST " + TASKS_URI, ApiSchema.TASK) {
+        @Override
+        LoadRequest prepare(TaskTrackerClient client, SpareOwners owners, LoadFamily family, WorkloadMix mix,
+                            RandomGenerator random) {
+            TaskCreateRequest payload = taskCreateRequest(family.ownerId(), random);
+            return request(() -> client.createTask(payload)
+                    .thenApply(response -> {
+                        if (response.isSuccessful()) {
+                            family.addTask(response.task().taskId(), TaskStatus.TO_DO);
+                        }
+                        return response;
+                    }));
+        }
+    },
+    GET_TASK("GET " + TASKS_URI + "/{id}", ApiSchema.TASK) {
+        @Override
+        LoadRequest prepare(TaskTrackerClient client, SpareOwners owners, LoadFamily family, WorkloadMix mix,
+                            RandomGenerator random) {
+            LoadFamily.TrackedTask task = family.randomTask(random);
+            if (task == null) {
+                return GET_TASKS.prepare(client, owners, family, mix, random);
+            }
+            return request(() -> client.getTask(task.id(), family.ownerId()));
+        }
+    },
+    GET_TASKS("GET " + TASKS_URI, ApiSchema.TASK, true) {
+        @Override
+        LoadRequest prepare(TaskTrackerClient client, SpareOwners owners, LoadFamily family, WorkloadMix mix,
+                            RandomGenerator random) {
+            TaskFilter filter = mix.filters().pick(random);
+            return request(FILTERED_TASKS_ENDPOINTS.get(filter), () -> client.getTasks(family.ownerId(), filter));
+        }
+    },
+    UPDATE_TASK("PUT " + TASKS_URI + "/{id}", ApiSchema.TASK) {
+        @Override
+        LoadRequest prepare(TaskTrackerClient client, SpareOwners owners, LoadFamily family, WorkloadMix mix,
+                            RandomGenerator random) {
+            LoadFamily.TrackedTask task = family.randomTask(random);
+            TaskStatus next = task == null ? null : mix.nextStatus(task.status(), random);
+            if (next == null) {
+                return CREATE_TASK.prepare(client, owners, family, mix, random);
+            }
+            TaskPriority[] priorities = TaskPriority.values();
+            TaskUpdateRequest payload = TaskUpdateRequest.builder()
+                    .status(next.name())
+                    .name("task_" + randomString(random, 12))
+                    .description("updated_" + randomString(random, 32))
+                    .priority(priorities[random.nextInt(priorities.length)].name())
+                    .executorIds(Set.of())
+                    .confidential(false)
+                    .rewardsPoints(random.nextInt(100))
+                    .deadline(LocalDate.now().plusDays(1 + random.nextInt(30)).toString())
+                    .build();
+            return request(() -> client.updateTask(task.id(), family.ownerId(), payload)
+                    .thenApply(response -> {
+                        if (response.isSuccessful()) {
+                            task.status(next);
+                        }
+                        return response;
+                    }));
+        }
+    };
+
+    /**
+     * The endpoints {@code GET /v1/tasks} latencies are recorded under, one per filter, built once so recording
+     * doesn't allocate a string per request.
+     */
+    private static final Map<TaskFilter, String> FILTERED_TASKS_ENDPOINTS = filteredTasksEndpoints();
+
+    private final String endpoint;
+    private final ApiSchema schema;
+    private final boolean listBody;
+
+    Operation(String endpoint, ApiSchema schema) {
+        this(endpoint, schema, false);
+    }
+
+    /**
+     * @param schema   the schema of a successful response body, of each element if {@code listBody}
+     * @param listBody whether a successful response is a JSON array
+     */
+    Operation(String endpoint, ApiSchema schema, boolean listBody) {
+        this.endpoint = endpoint;
+        this.schema = schema;
+        this.listBody = listBody;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Builds the payload and returns the request, not yet sent, with the endpoint its latency is recorded under.
+     * Operations needing a task fall back to another operation while the family has none, an update falls back
+     * to a create when the task picked is in a status the mix has no transition from, and a group creation falls
+     * back to a user creation when there is no spare owner.
+     */
+    abstract LoadRequest prepare(TaskTrackerClient client, SpareOwners owners, LoadFamily family, WorkloadMix mix,
+                                 RandomGenerator random);
+
+    LoadRequest request(Supplier<CompletableFuture<ApiResponse>> sender) {
+        return request(endpoint, sender);
+    }
+
+    LoadRequest request(String endpoint, Supplier<CompletableFuture<ApiResponse>> sender) {
+        return new LoadRequest(endpoint, schema, listBody, sender);
+    }
+
+    private static Map<TaskFilter, String> filteredTasksEndpoints() {
+        Map<TaskFilter, String> endpoints = new EnumMap<>(TaskFilter.class);
+        for (TaskFilter filter : TaskFilter.values()) {
+            endpoints.put(filter, GET_TASKS.endpoint() + "?filter=" + filter.name());
+        }
+        return endpoints;
+    }
+
+    static TaskCreateRequest taskCreateRequest(int reporterId, RandomGenerator random) {
+        return TaskCreateRequest.builder()
+                .name("task_" + randomString(random, 12))
+                .description("load_" + randomString(random, 64))
+                .priority(TaskPriority.MEDIUM.name())
+                .status(TaskStatus.TO_DO.name())
+                .reporterId(reporterId)
+                .executorIds(Set.of())
+                .confidential(false)
+                .deadline(LocalDate.now().plusDays(7).toString())
+                .build();
+    }
+
+    private static User user(RandomGenerator random) {
+        return User.builder()
+                .name("load_" + randomString(random, 8))
+                .admin(false)
+                .build();
+    }
+}
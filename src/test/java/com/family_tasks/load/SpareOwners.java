@@ -0,0 +1,57 @@
+package com.family_tasks.load;
+
+import com.family_tasks.client.TaskTrackerClient;
+import com.family_tasks.dto.user.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import static com.family_tasks.utils.TestValuesUtils.randomString;
+
+/**
+ * Users without a group, which {@link Operation#CREATE_GROUP} makes owners of, so that the group request is timed
+ * on its own. Some are created before the run; users created by {@link Operation#CREATE_USER} during it are added.
+ */
+public final class SpareOwners {
+
+    private static final int MAX_CONCURRENT_CREATES = 64;
+
+    private final Queue<Integer> userIds = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates {@code count} users, at most {@value #MAX_CONCURRENT_CREATES} at a time.
+     */
+    public static SpareOwners createAll(TaskTrackerClient client, int count) {
+        SpareOwners owners = new SpareOwners();
+        Semaphore permits = new Semaphore(MAX_CONCURRENT_CREATES);
+        List<CompletableFuture<Void>> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            permits.acquireUninterruptibly();
+            created.add(client.createUser(User.builder().name("load_" + randomString(8)).admin(false).build())
+                    .thenAccept(response -> {
+                        if (!response.isSuccessful()) {
+                            throw new IllegalStateException("Failed to create a spare owner: " + response);
+                        }
+                        owners.add(response.user().id());
+                    })
+                    .whenComplete((ignored, error) -> permits.release()));
+        }
+        created.forEach(CompletableFuture::join);
+        return owners;
+    }
+
+    public void add(int userId) {
+        userIds.add(userId);
+    }
+
+    /**
+     * Takes a user out of the pool, {@code null} if it is empty.
+     */
+    public Integer poll() {
+        return userIds.poll();
+    }
+}
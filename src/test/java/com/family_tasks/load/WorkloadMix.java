@@ -0,0 +1,123 @@
+package com.family_tasks.load;
+
+import com.family_tasks.enums.TaskFilter;
+import com.family_tasks.enums.TaskStatus;
+import com.family_tasks.utils.dataset.WeightedChoice;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * The traffic of a load run, read from a versioned JSON file: the weights of the operations, of the filters
+ * {@code GET /v1/tasks} is called with and of the status each task status is updated to, the Zipf exponent of
+ * the families' popularity, {@code 0} for uniform, and the seed of the request decisions. The bundled mixes are
+ * under {@code src/test/resources/load/mixes}.
+ *
+ * @param statusTransitions for each current status, the weights of the status a task is updated to; a status
+ *                          without transitions is final and its tasks aren't updated
+ */
+public record WorkloadMix(String name,
+                          int version,
+                          long seed,
+                          double familyZipfExponent,
+                          WeightedChoice<Operation> operations,
+                          WeightedChoice<TaskFilter> filters,
+                          Map<TaskStatus, WeightedChoice<TaskStatus>> statusTransitions) {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final String BUNDLED_MIXES = "load/mixes/";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Reads the mix from {@code mix} if it is a path to an existing file, otherwise the bundled mix of that name.
+     */
+    public static WorkloadMix load(String mix) {
+        Path file = Path.of(mix);
+        try {
+            if (Files.isRegularFile(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    return parse(mix, OBJECT_MAPPER.readTree(in));
+                }
+            }
+            try (InputStream in = WorkloadMix.class.getClassLoader().getResourceAsStream(BUNDLED_MIXES + mix + ".json")) {
+                if (in == null) {
+                    throw new IllegalArgumentException("No mix file or bundled mix named " + mix);
+                }
+                return parse(mix, OBJECT_MAPPER.readTree(in));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read mix " + mix, e);
+        }
+    }
+
+    /**
+     * The status to update a task in {@code current} to, {@code null} if {@code current} is final.
+     */
+    public TaskStatus nextStatus(TaskStatus current, RandomGenerator random) {
+        WeightedChoice<TaskStatus> transitions = statusTransitions.get(current);
+        return transitions == null ? null : transitions.pick(random);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s v%d (seed %d, family Zipf exponent %.2f)%n  operations %s%n  filters %s%n  transitions %s",
+                name, version, seed, familyZipfExponent, operations, filters, statusTransitions);
+    }
+
+    private static WorkloadMix parse(String source, JsonNode root) {
+        int version = root.path("version").asInt(-1);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Mix " + source + " has format version " + version
+                    + ", expected " + FORMAT_VERSION);
+        }
+        Map<TaskStatus, WeightedChoice<TaskStatus>> transitions = new EnumMap<>(TaskStatus.class);
+        for (Map.Entry<String, JsonNode> entry : root.path("statusTransitions").properties()) {
+            transitions.put(enumValue(source, TaskStatus.class, entry.getKey()),
+                    choice(source, TaskStatus.class, entry.getValue()));
+        }
+        double zipfExponent = root.path("familyZipfExponent").asDouble(0);
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("Mix " + source + " has a negative familyZipfExponent");
+        }
+        return new WorkloadMix(
+                root.path("name").asText(source),
+                version,
+                root.path("seed").asLong(0),
+                zipfExponent,
+                choice(source, Operation.class, root.path("operations")),
+                choice(source, TaskFilter.class, root.path("filters")),
+                transitions);
+    }
+
+    private static <E extends Enum<E>> WeightedChoice<E> choice(String source, Class<E> type, JsonNode weights) {
+        if (!weights.isObject()) {
+            throw new IllegalArgumentException("Mix " + source + " has no " + type.getSimpleName() + " weights");
+        }
+        Map<E, Double> parsed = new HashMap<>();
+        for (Map.Entry<String, JsonNode> entry : weights.properties()) {
+            if (!entry.getValue().isNumber()) {
+                throw new IllegalArgumentException("Mix " + source + " has a non-numeric weight for " + entry.getKey());
+            }
+            parsed.put(enumValue(source, type, entry.getKey()), entry.getValue().asDouble());
+        }
+        return new WeightedChoice<>(type, parsed);
+    }
+
+    private static <E extends Enum<E>> E enumValue(String source, Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Mix " + source + " has an unknown " + type.getSimpleName() + ": " + name, e);
+        }
+    }
+}
@@ -6,7 +6,6 @@ import com.family_tasks.dto.user.GroupEntity;
 import com.family_tasks.enums.TaskPriority;
 import com.family_tasks.enums.TaskStatus;
 import io.restassured.http.ContentType;
-import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -39,7 +38,7 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .priority(priority.name())
                 .build();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(request)
                 .when()
@@ -56,11 +55,7 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .body("deadline", equalTo(request.getDeadline()))
                 .body("executorIds", empty())
                 .body("createdAt", notNullValue())
-                .body("updatedAt", notNullValue())
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("updatedAt", notNullValue());
     }
 
     @Test
@@ -74,7 +69,7 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .name(longName)
                 .build();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(request)
                 .when()
@@ -91,11 +86,7 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .body("deadline", equalTo(request.getDeadline()))
                 .body("executorIds", empty())
                 .body("createdAt", notNullValue())
-                .body("updatedAt", notNullValue())
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("updatedAt", notNullValue());
     }
 
     @Test
@@ -107,18 +98,14 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .name(null)
                 .build();
 
-        Response response = given()
+        given()
                 .header("Content-Type", "application/json")
                 .body(request)
                 .when()
                 .post(TASKS_URI)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(TASK_NAME_NOT_SPECIFIED))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(TASK_NAME_NOT_SPECIFIED));
     }
 
     @Test
@@ -132,18 +119,14 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .name(tooLongName)
                 .build();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(request)
                 .when()
                 .post(TASKS_URI)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(TASK_NAME_TOO_LONG))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(TASK_NAME_TOO_LONG));
     }
 
     @Test
@@ -157,18 +140,14 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .deadline(validDeadline)
                 .build();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(request)
                 .when()
                 .post(TASKS_URI)
                 .then()
                 .statusCode(200)
-                .body("deadline", equalTo(validDeadline))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("deadline", equalTo(validDeadline));
     }
 
     @Test
@@ -181,18 +160,14 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .deadline("31-12-2025")
                 .build();
 
-        Response response = given()
+        given()
                 .header("Content-Type", "application/json")
                 .body(request)
                 .when()
                 .post(TASKS_URI)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", notNullValue())
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", notNullValue());
     }
 
     @Test
@@ -211,7 +186,7 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .executorIds(executorIds)
                 .build();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(request)
                 .when()
@@ -228,11 +203,7 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .body("deadline", equalTo(request.getDeadline()))
                 .body("executorIds", containsInAnyOrder(executorId1, executorId2, executorId3))
                 .body("createdAt", notNullValue())
-                .body("updatedAt", notNullValue())
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("updatedAt", notNullValue());
     }
 
     @Test
@@ -250,18 +221,13 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 }
                 """;
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(invalidJson)
                 .when()
                 .post(TASKS_URI)
                 .then()
-                .statusCode(400)   // EXPECTED
-                .extract()
-                .response();
-
-        System.out.println("Wrong types test:");
-        response.prettyPrint();
+                .statusCode(400);   // EXPECTED
     }
 
     @Test
@@ -275,18 +241,14 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
                 .description(minDesc)
                 .build();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(request)
                 .when()
                 .post(TASKS_URI)
                 .then()
                 .statusCode(200)
-                .body("description", equalTo(minDesc))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("description", equalTo(minDesc));
     }
 
     @Test
@@ -314,18 +276,14 @@ public class CreateTaskTests extends AbstractTaskTrackerTest {
     public void whenInvalidInput_createTask(TaskCreateRequest request,
                                             String expectedMessage) {
 
-        Response response = given()
+        given()
                 .header("Content-Type", "application/json")
                 .body(request)
                 .when()
                 .post(TASKS_URI)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(expectedMessage))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(expectedMessage));
     }
 
     private static Stream<Arguments> invalidCreateTaskProvider() {
@@ -1,14 +1,24 @@
 package com.family_tasks.task;
 
 import com.family_tasks.AbstractTaskTrackerTest;
+import com.family_tasks.client.TaskTrackerClient;
 import com.family_tasks.dto.group.GroupEntity;
 import com.family_tasks.dto.task.TaskEntity;
 import com.family_tasks.enums.TaskFilter;
 import com.family_tasks.enums.TaskPriority;
 import com.family_tasks.enums.TaskStatus;
+import com.family_tasks.utils.db.ExecutorLink;
+import com.family_tasks.utils.response.TaskStreamVerifier;
+import com.family_tasks.utils.schema.ApiSchema;
 import io.restassured.response.Response;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,11 +26,13 @@ import java.util.List;
 import java.util.UUID;
 
 import static com.family_tasks.UrlConstant.TASKS_URI;
+import static com.family_tasks.ValidationConstants.TASK_DESCRIPTION_MAX_LENGTH;
 import static com.family_tasks.ValidationMessage.*;
 import static com.family_tasks.utils.TestDataBaseUtils.*;
 import static com.family_tasks.utils.TestValuesUtils.randomString;
+import static com.family_tasks.utils.response.TaskListAssert.assertThatTasks;
+import static com.family_tasks.utils.schema.SchemaValidator.assertEachMatches;
 import static io.restassured.RestAssured.given;
-import static io.restassured.RestAssured.withArgs;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -28,6 +40,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class GetAllTasksTests extends AbstractTaskTrackerTest {
 
+    private static final int LARGE_LIST_SIZE = 20_000;
+
+    private final TaskTrackerClient client = TaskTrackerClient.forTests();
+
     @Test
     public void getAllAvailableTasks_returnsAllTasks() {
 
@@ -51,24 +67,13 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 .statusCode(200)
                 .extract().response();
 
-        for (TaskEntity task : tasks) {
-            response.then()
-                    .body("find { it.taskId == '%s' }.name", withArgs(task.getTaskId()), equalTo(task.getName()))
-                    .body("find { it.taskId == '%s' }.status", withArgs(task.getTaskId()), equalTo(task.getStatus()))
-                    .body("find { it.taskId == '%s' }.priority", withArgs(task.getTaskId()), equalTo(task.getPriority()))
-                    .body("find { it.taskId == '%s' }.reporterId", withArgs(task.getTaskId()), equalTo(task.getReporterId()))
-                    .body("find { it.taskId == '%s' }.description", withArgs(task.getTaskId()), equalTo(task.getDescription()))
-                    .body("find { it.taskId == '%s' }.confidential", withArgs(task.getTaskId()), equalTo(task.isConfidential()))
-                    .body("find { it.taskId == '%s' }.createdAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.updatedAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.deadline", withArgs(task.getTaskId()), equalTo(task.getDeadline().toString()));
-        }
+        assertEachMatches(ApiSchema.TASK, response);
+
+        assertThatTasks(response).containsTasks(tasks);
 
         List<String> statuses = response.jsonPath().getList("status");
-        System.out.println("Statuses (ALL_AVAILABLE): " + statuses);
         assertThat(statuses, contains("TO_DO", "IN_PROGRESS", "COMPLETED", "CANCELLED"));
         assertThat(statuses.size(), equalTo(tasks.size()));
-        response.prettyPrint();
     }
 
     @Test
@@ -94,27 +99,12 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 .statusCode(200)
                 .extract().response();
 
-        for (TaskEntity task : tasks) {
-            if (!task.getStatus().equals(TaskStatus.CANCELLED.name())) {
-                continue;
-            }
-
-            response.then()
-                    .body("find { it.taskId == '%s' }.name", withArgs(task.getTaskId()), equalTo(task.getName()))
-                    .body("find { it.taskId == '%s' }.status", withArgs(task.getTaskId()), equalTo(task.getStatus()))
-                    .body("find { it.taskId == '%s' }.priority", withArgs(task.getTaskId()), equalTo(task.getPriority()))
-                    .body("find { it.taskId == '%s' }.reporterId", withArgs(task.getTaskId()), equalTo(task.getReporterId()))
-                    .body("find { it.taskId == '%s' }.description", withArgs(task.getTaskId()), equalTo(task.getDescription()))
-                    .body("find { it.taskId == '%s' }.confidential", withArgs(task.getTaskId()), equalTo(task.isConfidential()))
-                    .body("find { it.taskId == '%s' }.createdAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.updatedAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.deadline", withArgs(task.getTaskId()), equalTo(task.getDeadline().toString()));
-        }
+        assertThatTasks(response).containsTasks(tasks.stream()
+                .filter(task -> task.getStatus().equals(TaskStatus.CANCELLED.name()))
+                .toList());
 
         List<String> statuses = response.jsonPath().getList("status");
-        System.out.println("Statuses (ALL_CLOSED): " + statuses);
         assertThat(statuses, everyItem(equalTo("CANCELLED")));
-        response.prettyPrint();
     }
 
     @Test
@@ -134,9 +124,9 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 TaskStatus.CANCELLED
         );
 
-        for (TaskEntity task : tasks) {
-            insertTaskExecutors(task.getTaskId(), List.of(executorId));
-        }
+        insertTaskExecutors(tasks.stream()
+                .map(task -> new ExecutorLink(task.getTaskId(), executorId))
+                .toList());
 
         Response response = given()
                 .queryParam("userId", executorId)
@@ -147,27 +137,12 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 .statusCode(200)
                 .extract().response();
 
-        for (TaskEntity task : tasks) {
-            if (!task.isActiveTask()) {
-                continue;
-            }
-
-            response.then()
-                    .body("find { it.taskId == '%s' }.name", withArgs(task.getTaskId()), equalTo(task.getName()))
-                    .body("find { it.taskId == '%s' }.status", withArgs(task.getTaskId()), equalTo(task.getStatus()))
-                    .body("find { it.taskId == '%s' }.priority", withArgs(task.getTaskId()), equalTo(task.getPriority()))
-                    .body("find { it.taskId == '%s' }.reporterId", withArgs(task.getTaskId()), equalTo(task.getReporterId()))
-                    .body("find { it.taskId == '%s' }.description", withArgs(task.getTaskId()), equalTo(task.getDescription()))
-                    .body("find { it.taskId == '%s' }.confidential", withArgs(task.getTaskId()), equalTo(task.isConfidential()))
-                    .body("find { it.taskId == '%s' }.createdAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.updatedAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.deadline", withArgs(task.getTaskId()), equalTo(task.getDeadline().toString()));
-        }
+        assertThatTasks(response).containsTasks(tasks.stream()
+                .filter(TaskEntity::isActiveTask)
+                .toList());
 
         List<String> statuses = response.jsonPath().getList("status");
         assertThat(statuses, contains("TO_DO", "IN_PROGRESS"));
-        System.out.println("Statuses (IS_EXECUTOR_ACTIVE_TASK): " + statuses);
-        response.prettyPrint();
     }
 
     @Test
@@ -193,27 +168,12 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 .statusCode(200)
                 .extract().response();
 
-        for (TaskEntity task : tasks) {
-            if (!task.isActiveTask()) {
-                continue;
-            }
-
-            response.then()
-                    .body("find { it.taskId == '%s' }.name", withArgs(task.getTaskId()), equalTo(task.getName()))
-                    .body("find { it.taskId == '%s' }.status", withArgs(task.getTaskId()), equalTo(task.getStatus()))
-                    .body("find { it.taskId == '%s' }.priority", withArgs(task.getTaskId()), equalTo(task.getPriority()))
-                    .body("find { it.taskId == '%s' }.reporterId", withArgs(task.getTaskId()), equalTo(task.getReporterId()))
-                    .body("find { it.taskId == '%s' }.description", withArgs(task.getTaskId()), equalTo(task.getDescription()))
-                    .body("find { it.taskId == '%s' }.confidential", withArgs(task.getTaskId()), equalTo(task.isConfidential()))
-                    .body("find { it.taskId == '%s' }.createdAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.updatedAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.deadline", withArgs(task.getTaskId()), equalTo(task.getDeadline().toString()));
-        }
+        assertThatTasks(response).containsTasks(tasks.stream()
+                .filter(TaskEntity::isActiveTask)
+                .toList());
 
         List<String> statuses = response.jsonPath().getList("status");
         assertThat(statuses, contains("TO_DO", "IN_PROGRESS"));
-        System.out.println("Statuses (IS_REPORTER_ACTIVE_TASK): " + statuses);
-        response.prettyPrint();
     }
 
     @Test
@@ -233,9 +193,9 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 TaskStatus.CANCELLED
         );
 
-        for (TaskEntity task : tasks) {
-            insertTaskExecutors(task.getTaskId(), List.of(executorId));
-        }
+        insertTaskExecutors(tasks.stream()
+                .map(task -> new ExecutorLink(task.getTaskId(), executorId))
+                .toList());
 
         Response response = given()
                 .queryParam("userId", executorId)
@@ -246,27 +206,12 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 .statusCode(200)
                 .extract().response();
 
-        for (TaskEntity task : tasks) {
-            if (!task.isCompletedTask()) {
-                continue;
-            }
-
-            response.then()
-                    .body("find { it.taskId == '%s' }.name", withArgs(task.getTaskId()), equalTo(task.getName()))
-                    .body("find { it.taskId == '%s' }.status", withArgs(task.getTaskId()), equalTo(task.getStatus()))
-                    .body("find { it.taskId == '%s' }.priority", withArgs(task.getTaskId()), equalTo(task.getPriority()))
-                    .body("find { it.taskId == '%s' }.reporterId", withArgs(task.getTaskId()), equalTo(task.getReporterId()))
-                    .body("find { it.taskId == '%s' }.description", withArgs(task.getTaskId()), equalTo(task.getDescription()))
-                    .body("find { it.taskId == '%s' }.confidential", withArgs(task.getTaskId()), equalTo(task.isConfidential()))
-                    .body("find { it.taskId == '%s' }.createdAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.updatedAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.deadline", withArgs(task.getTaskId()), equalTo(task.getDeadline().toString()));
-        }
+        assertThatTasks(response).containsTasks(tasks.stream()
+                .filter(TaskEntity::isCompletedTask)
+                .toList());
 
         List<String> statuses = response.jsonPath().getList("status");
         assertThat(statuses, contains("COMPLETED"));
-        System.out.println("Statuses (IS_EXECUTOR_COMPLETED_TASK): " + statuses);
-        response.prettyPrint();
     }
 
     @Test
@@ -292,27 +237,12 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 .statusCode(200)
                 .extract().response();
 
-        for (TaskEntity task : tasks) {
-            if (!task.isCompletedTask()) {
-                continue;
-            }
-
-            response.then()
-                    .body("find { it.taskId == '%s' }.name", withArgs(task.getTaskId()), equalTo(task.getName()))
-                    .body("find { it.taskId == '%s' }.status", withArgs(task.getTaskId()), equalTo(task.getStatus()))
-                    .body("find { it.taskId == '%s' }.priority", withArgs(task.getTaskId()), equalTo(task.getPriority()))
-                    .body("find { it.taskId == '%s' }.reporterId", withArgs(task.getTaskId()), equalTo(task.getReporterId()))
-                    .body("find { it.taskId == '%s' }.description", withArgs(task.getTaskId()), equalTo(task.getDescription()))
-                    .body("find { it.taskId == '%s' }.confidential", withArgs(task.getTaskId()), equalTo(task.isConfidential()))
-                    .body("find { it.taskId == '%s' }.createdAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.updatedAt", withArgs(task.getTaskId()), notNullValue())
-                    .body("find { it.taskId == '%s' }.deadline", withArgs(task.getTaskId()), equalTo(task.getDeadline().toString()));
-        }
+        assertThatTasks(response).containsTasks(tasks.stream()
+                .filter(TaskEntity::isCompletedTask)
+                .toList());
 
         List<String> statuses = response.jsonPath().getList("status");
         assertThat(statuses, contains("COMPLETED"));
-        System.out.println("Statuses (IS_REPORTER_COMPLETED_TASK): " + statuses);
-        response.prettyPrint();
     }
 
     @Test
@@ -332,8 +262,6 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
 
         List<String> taskIds = response.jsonPath().getList("taskId");
         assertTrue(taskIds.isEmpty(), "Expected no tasks for new user");
-        System.out.println("Get ALL_AVAILABLE tasks when user has no tasks: ");
-        response.prettyPrint();
     }
 
     @Test
@@ -350,17 +278,13 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 TaskStatus.CANCELLED
         );
 
-        Response response = given()
+        given()
                 .queryParam("filter", TaskFilter.ALL_AVAILABLE.name())
                 .when()
                 .get(TASKS_URI)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(USER_NOT_SPECIFIED)))
-                .extract().response();
-
-        System.out.println("Get ALL_AVAILABLE tasks with missing userId: ");
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(USER_NOT_SPECIFIED)));
     }
 
     @Test
@@ -369,7 +293,7 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
         GroupEntity group = createUserWithGroup();
         int reporterId = group.getOwnerId();
 
-        int invalidUserId = reporterId + 2;
+        int invalidUserId = nonExistentUserId();
 
         createTasksForStatusesAndInsertIntoDB(
                 reporterId,
@@ -379,18 +303,14 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 TaskStatus.CANCELLED
         );
 
-        Response response = given()
+        given()
                 .queryParam("userId", invalidUserId)
                 .queryParam("filter", TaskFilter.ALL_AVAILABLE.name())
                 .when()
                 .get(TASKS_URI)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(USER_NOT_EXIST, invalidUserId)))
-                .extract().response();
-
-        System.out.println("Get ALL_AVAILABLE tasks with invalid userId: ");
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(USER_NOT_EXIST, invalidUserId)));
     }
 
     @Test
@@ -407,18 +327,14 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 TaskStatus.CANCELLED
         );
 
-        Response response = given()
+        given()
                 .queryParam("userId", reporterId)
                 .queryParam("filter", "ALL")
                 .when()
                 .get(TASKS_URI)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(TASK_FILTER_INVALID)))
-                .extract().response();
-
-        System.out.println("Get ALL_AVAILABLE tasks with invalid filter: ");
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(TASK_FILTER_INVALID)));
     }
 
     @Test
@@ -435,17 +351,13 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                 TaskStatus.CANCELLED
         );
 
-        Response response = given()
+        given()
                 .queryParam("userId", reporterId)
                 .when()
                 .get(TASKS_URI)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(TASK_FILTER_NOT_SPECIFIED)))
-                .extract().response();
-
-        System.out.println("Get ALL_AVAILABLE tasks with missing filter: ");
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(TASK_FILTER_NOT_SPECIFIED)));
     }
 
     @Test
@@ -472,8 +384,6 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
 
         List<?> tasks = response.jsonPath().getList("$");
         assertTrue(tasks.isEmpty(), "Expected empty list when user has no group");
-        System.out.println("Get ALL_AVAILABLE tasks without group: ");
-        response.prettyPrint();
     }
 
     @Test
@@ -500,8 +410,44 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
 
         List<?> tasks = response.jsonPath().getList("$");
         assertTrue(tasks.isEmpty(), "Expected empty list when user has no group");
-        System.out.println("Get ALL_CLOSED tasks without group: ");
-        response.prettyPrint();
+    }
+
+    /**
+     * Streams the body into the verifier as it arrives, so neither the client nor the test holds the whole list.
+     * Tagged {@code benchmark} for its size and left out of the default test run.
+     */
+    @Tag("benchmark")
+    @Test
+    public void getAllAvailableTasks_largeList_verifiedWhileStreaming(TestReporter testReporter) {
+
+        GroupEntity group = createUserWithGroup();
+        int reporterId = group.getOwnerId();
+
+        TaskStatus[] statuses = TaskStatus.values();
+        List<TaskEntity> tasks = new ArrayList<>(LARGE_LIST_SIZE);
+        for (int i = 0; i < LARGE_LIST_SIZE; i++) {
+            tasks.add(buildTaskEntity(reporterId).toBuilder()
+                    .status(statuses[i % statuses.length].name())
+                    .description(randomString(TASK_DESCRIPTION_MAX_LENGTH))
+                    .build());
+        }
+        insertTasksIntoDB(tasks);
+
+        for (TaskFilter filter : List.of(TaskFilter.ALL_AVAILABLE, TaskFilter.IS_REPORTER_ACTIVE_TASK)) {
+            HttpResponse<InputStream> response = client.getTasks(reporterId, filter,
+                    HttpResponse.BodyHandlers.ofInputStream()).join();
+            try (InputStream body = response.body()) {
+                assertThat(filter + " status", response.statusCode(), is(200));
+                TaskStreamVerifier.Report report = TaskStreamVerifier.forFilter(filter, reporterId)
+                        .expecting(tasks)
+                        .ordered(TaskStreamVerifier.CREATION_ORDER)
+                        .verify(body)
+                        .assertNoMismatches();
+                testReporter.publishEntry(filter.name(), report.toString());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + filter + " tasks", e);
+            }
+        }
     }
 
     private List<TaskEntity> createTasksForStatusesAndInsertIntoDB(int userId, TaskStatus... statuses) {
@@ -522,10 +468,10 @@ public class GetAllTasksTests extends AbstractTaskTrackerTest {
                     .deadline(LocalDate.now().plusDays(7))
                     .build();
 
-            insertTaskIntoDB(task);
             tasks.add(task);
         }
 
+        insertTasksIntoDB(tasks);
         return tasks;
     }
 }
@@ -5,6 +5,9 @@ import com.family_tasks.dto.group.GroupEntity;
 import com.family_tasks.dto.task.TaskEntity;
 import com.family_tasks.enums.TaskPriority;
 import com.family_tasks.enums.TaskStatus;
+import com.family_tasks.utils.mapper.TaskMapper;
+import com.family_tasks.utils.response.TaskResponse;
+import com.family_tasks.utils.schema.ApiSchema;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,12 +19,17 @@ import java.util.UUID;
 import static com.family_tasks.UrlConstant.TASKS_URI;
 import static com.family_tasks.ValidationMessage.*;
 import static com.family_tasks.utils.TestDataBaseUtils.*;
+import static com.family_tasks.utils.schema.SchemaValidator.assertMatches;
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 public class GetTaskTests extends AbstractTaskTrackerTest {
 
+    private static final String[] TASK_FIELDS = {"taskId", "name", "status", "priority", "reporterId", "description",
+            "confidential", "deadline"};
+
     @EnumSource(value = TaskPriority.class)
     @ParameterizedTest
     public void getTaskById_shouldReturnTaskWithGivenPriority(TaskPriority priority) {
@@ -41,19 +49,11 @@ public class GetTaskTests extends AbstractTaskTrackerTest {
                 .get(TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(200)
-                .body("taskId", equalTo(taskId))
-                .body("name", equalTo(taskEntity.getName()))
-                .body("status", equalTo(taskEntity.getStatus()))
-                .body("priority", equalTo(taskEntity.getPriority()))
-                .body("reporterId", equalTo(taskEntity.getReporterId()))
-                .body("description", equalTo(taskEntity.getDescription()))
-                .body("createdAt", notNullValue())
-                .body("updatedAt", notNullValue())
-                .body("deadline", equalTo(taskEntity.getDeadline().toString()))
                 .extract()
                 .response();
 
-        response.prettyPrint();
+        assertMatches(ApiSchema.TASK, response);
+        assertTask(TaskResponse.from(response), taskEntity);
     }
 
     @EnumSource(value = TaskStatus.class)
@@ -75,19 +75,10 @@ public class GetTaskTests extends AbstractTaskTrackerTest {
                 .get(TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(200)
-                .body("taskId", equalTo(taskId))
-                .body("name", equalTo(taskEntity.getName()))
-                .body("status", equalTo(taskEntity.getStatus()))
-                .body("priority", equalTo(taskEntity.getPriority()))
-                .body("reporterId", equalTo(taskEntity.getReporterId()))
-                .body("description", equalTo(taskEntity.getDescription()))
-                .body("createdAt", notNullValue())
-                .body("updatedAt", notNullValue())
-                .body("deadline", equalTo(taskEntity.getDeadline().toString()))
                 .extract()
                 .response();
 
-        response.prettyPrint();
+        assertTask(TaskResponse.from(response), taskEntity);
     }
 
     @Test
@@ -108,20 +99,10 @@ public class GetTaskTests extends AbstractTaskTrackerTest {
                 .get(TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(200)
-                .body("taskId", equalTo(taskId))
-                .body("name", equalTo(taskEntity.getName()))
-                .body("status", equalTo(taskEntity.getStatus()))
-                .body("priority", equalTo(taskEntity.getPriority()))
-                .body("reporterId", equalTo(taskEntity.getReporterId()))
-                .body("description", equalTo(taskEntity.getDescription()))
-                .body("confidential", equalTo(taskEntity.isConfidential()))
-                .body("createdAt", notNullValue())
-                .body("updatedAt", notNullValue())
-                .body("deadline", equalTo(taskEntity.getDeadline().toString()))
                 .extract()
                 .response();
 
-        response.prettyPrint();
+        assertTask(TaskResponse.from(response), taskEntity);
     }
 
     @Test
@@ -147,21 +128,12 @@ public class GetTaskTests extends AbstractTaskTrackerTest {
                 .get(TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(200)
-                .body("taskId", equalTo(taskId))
-                .body("name", equalTo(taskEntity.getName()))
-                .body("status", equalTo(taskEntity.getStatus()))
-                .body("priority", equalTo(taskEntity.getPriority()))
-                .body("reporterId", equalTo(taskEntity.getReporterId()))
-                .body("executorIds", hasItem(executorId))
-                .body("description", equalTo(taskEntity.getDescription()))
-                .body("confidential", equalTo(taskEntity.isConfidential()))
-                .body("createdAt", notNullValue())
-                .body("updatedAt", notNullValue())
-                .body("deadline", equalTo(taskEntity.getDeadline().toString()))
                 .extract()
                 .response();
 
-        response.prettyPrint();
+        TaskResponse task = TaskResponse.from(response);
+        assertTask(task, taskEntity);
+        assertThat(task.executorIds()).contains(executorId);
     }
 
     @Test
@@ -182,17 +154,13 @@ public class GetTaskTests extends AbstractTaskTrackerTest {
 
         String taskId = taskEntity.getTaskId();
 
-        Response response = given()
+        given()
                 .queryParam("userId", notAllowedUserId)
                 .when()
                 .get(TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(404)
-                .body("errorMessage", equalTo(String.format(TASK_NOT_EXIST, taskId)))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(TASK_NOT_EXIST, taskId)));
     }
 
     @Test
@@ -205,16 +173,12 @@ public class GetTaskTests extends AbstractTaskTrackerTest {
         insertTaskIntoDB(taskEntity);
         String taskId = taskEntity.getTaskId();
 
-        Response response = given()
+        given()
                 .when()
                 .get(TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(USER_NOT_SPECIFIED))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(USER_NOT_SPECIFIED));
     }
 
     @Test
@@ -226,19 +190,15 @@ public class GetTaskTests extends AbstractTaskTrackerTest {
         insertTaskIntoDB(taskEntity);
         String taskId = taskEntity.getTaskId();
 
-        int invalidUserId = reporterId + 2;
+        int invalidUserId = nonExistentUserId();
 
-        Response response = given()
+        given()
                 .queryParam("userId", invalidUserId)
                 .when()
                 .get(TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(404)
-                .body("errorMessage", equalTo(String.format(USER_NOT_EXIST, invalidUserId)))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(USER_NOT_EXIST, invalidUserId)));
     }
 
     @Test
@@ -248,17 +208,26 @@ public class GetTaskTests extends AbstractTaskTrackerTest {
 
         String invalidTaskId = UUID.randomUUID().toString();
 
-        Response response = given()
+        given()
                 .queryParam("userId", reporterId)
                 .when()
                 .get(TASKS_URI + "/" + invalidTaskId)
                 .then()
                 .statusCode(404)
-                .body("errorMessage", equalTo(String.format(TASK_NOT_EXIST, invalidTaskId)))
-                .extract()
-                .response();
-
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(TASK_NOT_EXIST, invalidTaskId)));
     }
 
+    /**
+     * Compares the decoded task with the inserted entity; timestamps are set by the DB and only
+     * checked for presence.
+     */
+    private static void assertTask(TaskResponse task, TaskEntity expected) {
+        TaskEntity actual = TaskMapper.INSTANCE.toEntity(task);
+        assertThat(actual)
+                .usingRecursiveComparison()
+                .comparingOnlyFields(TASK_FIELDS)
+                .isEqualTo(expected);
+        assertThat(actual.getCreatedAt()).isNotNull();
+        assertThat(actual.getUpdatedAt()).isNotNull();
+    }
 }
@@ -0,0 +1,190 @@
+package com.family_tasks.task;
+
+import com.family_tasks.AbstractTaskTrackerTest;
+import com.family_tasks.client.TaskTrackerClient;
+import com.family_tasks.dto.group.GroupEntity;
+import com.family_tasks.enums.TaskFilter;
+import com.family_tasks.enums.TaskStatus;
+import com.family_tasks.utils.db.BulkLoader;
+import com.family_tasks.utils.db.ExecutorLink;
+import com.family_tasks.utils.latency.LatencyKey;
+import com.family_tasks.utils.latency.LatencyRecorder;
+import com.family_tasks.utils.latency.PowerLawFit;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.family_tasks.UrlConstant.TASKS_URI;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * How the latency and response size of every {@link TaskFilter} grow with the number of tasks of a user.
+ * <p>
+ * A user and a second member of their group get {@code 10^2 .. 10^benchmark.maxExponent} tasks between them,
+ * loaded with {@code COPY}: each reports every other task and is the executor of the other's tasks, with the
+ * statuses spread evenly, so every filter's result grows with the total. At each size every filter is timed to
+ * the last byte of the streamed body into a {@link LatencyRecorder}, and the percentiles are reported. A power law
+ * is fitted to the median latency at the largest sizes, where the fixed per-request cost no longer hides the
+ * per-task cost, and the test fails when a filter's latency grows faster than {@code benchmark.maxLatencyExponent}:
+ * about 1 is expected, since the response itself grows linearly. {@code benchmark.maxExponent} must be at least
+ * 3, as a growth exponent needs two sizes.
+ * <p>
+ * Tagged {@code benchmark} and left out of the default test run; run it with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+public class TaskFilterScalingTests extends AbstractTaskTrackerTest {
+
+    private static final int MIN_EXPONENT = 2;
+    private static final int MAX_EXPONENT = Integer.getInteger("benchmark.maxExponent", 6);
+    private static final int WARMUPS = Integer.getInteger("benchmark.warmups", 2);
+    private static final int SAMPLES = Integer.getInteger("benchmark.samples", 5);
+    private static final double MAX_LATENCY_EXPONENT = Double.parseDouble(System.getProperty("benchmark.maxLatencyExponent", "1.2"));
+    private static final int FIT_POINTS = 3;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskTrackerClient client = TaskTrackerClient.forTests();
+
+    @Test
+    public void taskFilters_latencyGrowsAtMostLinearlyWithTaskCount(TestReporter testReporter) {
+        if (MAX_EXPONENT < MIN_EXPONENT + 1) {
+            throw new IllegalArgumentException("benchmark.maxExponent must be at least " + (MIN_EXPONENT + 1)
+                    + " to fit the latency growth over two or more sizes, got " + MAX_EXPONENT);
+        }
+
+        GroupEntity group = createUserWithGroup();
+        int userId = group.getOwnerId();
+        int memberId = createAndInsertUsersForGroup(group.getGroupId(), 1).getFirst().getId();
+        UUID idBase = UUID.randomUUID();
+
+        List<Integer> sizes = IntStream.rangeClosed(MIN_EXPONENT, MAX_EXPONENT)
+                .mapToObj(exponent -> (int) Math.pow(10, exponent))
+                .toList();
+        Map<TaskFilter, Histogram[]> latencies = new EnumMap<>(TaskFilter.class);
+        Map<TaskFilter, double[]> bodySizes = new EnumMap<>(TaskFilter.class);
+        for (TaskFilter filter : TaskFilter.values()) {
+            latencies.put(filter, new Histogram[sizes.size()]);
+            bodySizes.put(filter, new double[sizes.size()]);
+        }
+
+        int seeded = 0;
+        for (int point = 0; point < sizes.size(); point++) {
+            int size = sizes.get(point);
+            seed(idBase, seeded, size, userId, memberId);
+            seeded = size;
+
+            LatencyRecorder recorder = LatencyRecorder.inMemory();
+            for (TaskFilter filter : TaskFilter.values()) {
+                for (int i = 0; i < WARMUPS; i++) {
+                    fetch(userId, filter);
+                }
+                String endpoint = endpoint(filter);
+                long bytes = 0;
+                for (int i = 0; i < SAMPLES; i++) {
+                    long start = System.nanoTime();
+                    bytes = fetch(userId, filter);
+                    recorder.record(endpoint, 200, start, start, System.nanoTime());
+                }
+                bodySizes.get(filter)[point] = bytes;
+            }
+            Map<LatencyKey, Histogram> histograms = recorder.responseTimes();
+            for (TaskFilter filter : TaskFilter.values()) {
+                latencies.get(filter)[point] = histograms.get(new LatencyKey(endpoint(filter), 200));
+            }
+        }
+
+        double[] taskCounts = sizes.stream().mapToDouble(Integer::doubleValue).toArray();
+        int from = Math.max(0, sizes.size() - FIT_POINTS);
+        List<String> violations = new ArrayList<>();
+        for (TaskFilter filter : TaskFilter.values()) {
+            Histogram[] histograms = latencies.get(filter);
+            double[] latency = Arrays.stream(histograms)
+                    .mapToDouble(histogram -> millis(histogram.getValueAtPercentile(50)))
+                    .toArray();
+            PowerLawFit latencyFit = PowerLawFit.of(
+                    Arrays.copyOfRange(taskCounts, from, taskCounts.length),
+                    Arrays.copyOfRange(latency, from, latency.length));
+            PowerLawFit sizeFit = PowerLawFit.of(taskCounts, bodySizes.get(filter));
+
+            StringBuilder report = new StringBuilder();
+            for (int point = 0; point < sizes.size(); point++) {
+                Histogram histogram = histograms[point];
+                report.append(String.format(
+                        "%n  %,9d tasks: p50 %9.2f, p90 %9.2f, p99 %9.2f, max %9.2f ms, %,13.0f bytes",
+                        sizes.get(point), latency[point], millis(histogram.getValueAtPercentile(90)),
+                        millis(histogram.getValueAtPercentile(99)), millis(histogram.getMaxValue()),
+                        bodySizes.get(filter)[point]));
+            }
+            report.append(String.format("%n  latency %s over the %d largest sizes, size %s",
+                    latencyFit, sizes.size() - from, sizeFit));
+            testReporter.publishEntry(filter.name(), report.toString());
+
+            if (latencyFit.exponent() > MAX_LATENCY_EXPONENT) {
+                violations.add(String.format("%s latency grows as %s, above x^%.2f:%s",
+                        filter, latencyFit, MAX_LATENCY_EXPONENT, report));
+            }
+        }
+        assertThat(violations).as("TaskFilters whose latency grows superlinearly").isEmpty();
+    }
+
+    /**
+     * Loads tasks {@code from .. to - 1}: even ones are reported by the user and executed by the member, odd ones
+     * the other way round. Ids are derived from {@code idBase} and the index, so the task and executor rows can be
+     * streamed separately without keeping the tasks in memory. They are removed after the test with the tasks of
+     * the tracked users.
+     */
+    private void seed(UUID idBase, int from, int to, int userId, int memberId) {
+        BulkLoader.copyTasks(IntStream.range(from, to).mapToObj(i -> buildTaskEntity(i % 2 == 0 ? userId : memberId)
+                .toBuilder()
+                .taskId(taskId(idBase, i))
+                .status(STATUSES[(i / 2) % STATUSES.length].name())
+                .build()));
+        BulkLoader.copyExecutors(IntStream.range(from, to).mapToObj(i ->
+                new ExecutorLink(taskId(idBase, i), i % 2 == 0 ? memberId : userId)));
+    }
+
+    private static String endpoint(TaskFilter filter) {
+        return "GET " + TASKS_URI + "?filter=" + filter.name();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static String taskId(UUID idBase, int index) {
+        return new UUID(idBase.getMostSignificantBits(),
+                (idBase.getLeastSignificantBits() & 0xFFFF_FFFF_0000_0000L) | index).toString();
+    }
+
+    /**
+     * Requests the list and reads the body to the end without parsing it, returning its size.
+     */
+    private long fetch(int userId, TaskFilter filter) {
+        HttpResponse<InputStream> response = client.getTasks(userId, filter, HttpResponse.BodyHandlers.ofInputStream()).join();
+        try (InputStream body = response.body()) {
+            assertThat(response.statusCode()).as("%s status", filter).isEqualTo(200);
+            byte[] buffer = new byte[64 * 1024];
+            long bytes = 0;
+            for (int read = body.read(buffer); read >= 0; read = body.read(buffer)) {
+                bytes += read;
+            }
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + filter + " tasks", e);
+        }
+    }
+}
@@ -6,7 +6,10 @@ import com.family_tasks.dto.task.TaskUpdateRequest;
 import com.family_tasks.dto.group.GroupEntity;
 import com.family_tasks.enums.TaskPriority;
 import com.family_tasks.enums.TaskStatus;
-import com.family_tasks.utils.task.TaskResponseWrapper;
+import com.family_tasks.utils.AsyncFixtures;
+import com.family_tasks.utils.db.StateDigest;
+import com.family_tasks.utils.mapper.TaskMapper;
+import com.family_tasks.utils.response.TaskResponse;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
@@ -16,8 +19,8 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.time.LocalDate;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static com.family_tasks.UrlConstant.GET_TASKS_URI;
@@ -61,22 +64,9 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
                 .extract()
                 .response();
 
-        TaskResponseWrapper taskResp = new TaskResponseWrapper(response);
-
-        assertEquals(taskId, taskResp.getTaskId());
-        assertEquals(updateRequest.getName(), taskResp.getName());
-        assertEquals(updateRequest.getStatus(), taskResp.getStatus());
-        assertEquals(updateRequest.getPriority(), taskResp.getPriority());
-        assertEquals(updateRequest.getDescription(), taskResp.getDescription());
-        assertEquals(updateRequest.getDeadline(), taskResp.getDeadline());
-        assertEquals(updateRequest.getRewardsPoints(), taskResp.getRewardsPoints());
-        assertThat(taskResp.getExecutorIds())
-                .containsExactlyInAnyOrderElementsOf(Set.of(executorId));
-        assertThat(taskResp.getCreatedAt()).isNotNull();
-        assertThat(taskResp.getUpdatedAt()).isNotNull();
-
-        System.out.println("Update all fields test: ");
-        response.prettyPrint();
+        TaskResponse taskResp = assertTaskUpdatedCorrectly(response, updateRequest, reporterId, taskId);
+        assertThat(taskResp.createdAt()).isNotNull();
+        assertThat(taskResp.updatedAt()).isNotNull();
     }
 
     @EnumSource(value = TaskStatus.class)
@@ -111,9 +101,6 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
                 .response();
 
         assertTaskUpdatedCorrectly(response, updateRequest, reporterId, taskId);
-
-        System.out.println("Update all fields test for different statuses: ");
-        response.prettyPrint();
     }
 
     @Test
@@ -134,7 +121,7 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
                 .executorIds(Set.of(executorId, reporterId))
                 .build();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .queryParam("userId", reporterId)
                 .body(updateRequest)
@@ -142,12 +129,7 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
                 .put(GET_TASKS_URI + "/" + nonExistentTask)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(TASK_NOT_EXIST, nonExistentTask)))
-                .extract()
-                .response();
-
-        System.out.println("Attempt to update NON-EXISTENT task: ");
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(TASK_NOT_EXIST, nonExistentTask)));
     }
 
     @Test
@@ -158,7 +140,7 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
 
         int reporterId = group.getOwnerId();
         int executorId = insertUserIntoDB(buildUserEntity(groupId));
-        int nonExistentExecutorId = executorId + 2;
+        int nonExistentExecutorId = nonExistentUserId();
 
         TaskEntity taskToUpdate = buildTaskEntity(reporterId);
         insertTaskIntoDB(taskToUpdate);
@@ -169,19 +151,14 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
                 .executorIds(Set.of(nonExistentExecutorId))
                 .build();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(updateRequest)
                 .when()
                 .put(GET_TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(USER_NOT_EXIST, nonExistentExecutorId)))
-                .extract()
-                .response();
-
-        System.out.println("Update all fields test when executor does not exist: ");
-        response.prettyPrint();
+                .body("errorMessage", equalTo(String.format(USER_NOT_EXIST, nonExistentExecutorId)));
     }
 
     @ParameterizedTest(name = "{index} => {0}")
@@ -197,19 +174,14 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
 
         String taskId = taskToUpdate.getTaskId();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(request)
                 .when()
                 .put(GET_TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(expectedError))
-                .extract()
-                .response();
-
-        System.out.println("Running test case: " + testName);
-        response.prettyPrint();
+                .body("errorMessage", equalTo(expectedError));
     }
 
     private static Stream<Arguments> missingRequiredField() {
@@ -250,19 +222,14 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
 
         String taskId = taskToUpdate.getTaskId();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .body(request)
                 .when()
                 .put(GET_TASKS_URI + "/" + taskId)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(expectedError))
-                .extract()
-                .response();
-
-        System.out.println("Running test case: " + testName);
-        response.prettyPrint();
+                .body("errorMessage", equalTo(expectedError));
     }
 
     private static Stream<Arguments> invalidUpdateData() {
@@ -307,20 +274,22 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
     @Test
     public void shouldNotAllowAssigningExecutorFromAnotherGroup() {
 
-        GroupEntity groupA = createUserWithGroup();
-        int reporterId = groupA.getOwnerId();
-
-        GroupEntity groupB = createUserWithGroup();
-        int executorFromOtherGroup = groupB.getOwnerId();
+        CompletableFuture<GroupEntity> groupA = createUserWithGroupAsync();
+        CompletableFuture<GroupEntity> groupB = createUserWithGroupAsync();
+        CompletableFuture<TaskEntity> taskFuture = AsyncFixtures.insertTask(
+                groupA.thenApply(GroupEntity::getOwnerId), this::buildTaskEntity);
 
-        TaskEntity task = buildTaskEntity(reporterId);
-        insertTaskIntoDB(task);
+        int reporterId = groupA.join().getOwnerId();
+        int executorFromOtherGroup = groupB.join().getOwnerId();
+        TaskEntity task = taskFuture.join();
+        StateDigest groupABefore = StateDigest.captureGroup(groupA.join().getGroupId());
+        StateDigest groupBBefore = StateDigest.captureGroup(groupB.join().getGroupId());
 
         TaskUpdateRequest updateRequest = buildUpdateTaskRequest()
                 .executorIds(Set.of(executorFromOtherGroup))
                 .build();
 
-        Response response = given()
+        given()
                 .contentType(ContentType.JSON)
                 .queryParam("userId", reporterId)
                 .body(updateRequest)
@@ -328,12 +297,10 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
                 .put(GET_TASKS_URI + "/" + task.getTaskId())
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(String.format(CREATE_OR_UPDATE_TASK_FOR_OWN_GROUP)))
-                .extract()
-                .response();
+                .body("errorMessage", equalTo(String.format(CREATE_OR_UPDATE_TASK_FOR_OWN_GROUP)));
 
-        System.out.println("Attempt to update a task by assigning an executor from another group: ");
-        response.prettyPrint();
+        assertThat(StateDigest.captureGroup(groupA.join().getGroupId()).changedTables(groupABefore)).isEmpty();
+        assertThat(StateDigest.captureGroup(groupB.join().getGroupId()).changedTables(groupBBefore)).isEmpty();
     }
 
     private static TaskUpdateRequest.TaskUpdateRequestBuilder buildUpdateTaskRequest() {
@@ -348,21 +315,25 @@ public class UpdateTaskTests extends AbstractTaskTrackerTest {
                 .rewardsPoints(null);
     }
 
-    private void assertTaskUpdatedCorrectly(
+    /**
+     * Maps the returned task back to an update request, which must carry the values that were sent.
+     */
+    private TaskResponse assertTaskUpdatedCorrectly(
             Response response,
             TaskUpdateRequest updateRequest,
             int reporterId,
             String taskId
     ) {
-        assertEquals(updateRequest.getName(), response.path("name"));
-        assertEquals(updateRequest.getStatus(), response.path("status"));
-        assertEquals(updateRequest.getPriority(), response.path("priority"));
-        assertEquals(updateRequest.getDeadline(), response.path("deadline"));
-        assertEquals(updateRequest.getDescription(), response.path("description"));
-        assertEquals(updateRequest.getExecutorIds(), new HashSet<>(response.path("executorIds")));
-        assertEquals(updateRequest.getRewardsPoints(), response.path("rewardsPoints"));
-        assertEquals(reporterId, (Integer) response.path("reporterId"));
-        assertEquals(taskId, response.path("taskId"));
+        TaskResponse task = TaskResponse.from(response);
+        TaskUpdateRequest applied = TaskMapper.INSTANCE.toUpdateRequest(TaskMapper.INSTANCE.toEntity(task));
+        assertThat(applied)
+                .usingRecursiveComparison()
+                .comparingOnlyFields("name", "status", "priority", "deadline", "description", "rewardsPoints")
+                .isEqualTo(updateRequest);
+        assertEquals(updateRequest.getExecutorIds(), task.executorIds());
+        assertEquals(reporterId, task.reporterId());
+        assertEquals(taskId, task.taskId());
+        return task;
     }
 
 }
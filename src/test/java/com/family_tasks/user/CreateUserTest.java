@@ -4,7 +4,6 @@ import com.family_tasks.AbstractTaskTrackerTest;
 import com.family_tasks.dto.group.GroupEntity;
 import com.family_tasks.dto.user.User;
 import com.family_tasks.dto.user.UserEntity;
-import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
 
 import static com.family_tasks.UrlConstant.CREATE_USER_URI;
@@ -14,7 +13,6 @@ import static com.family_tasks.utils.TestValuesUtils.randomString;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 
-
 public class CreateUserTest extends AbstractTaskTrackerTest {
 
     @Test
@@ -23,7 +21,7 @@ public class CreateUserTest extends AbstractTaskTrackerTest {
             User user = buildUser()
                     .build();
 
-            Response resp = given()
+            given()
                     .contentType("application/json")
                     .body(user)
                     .when()
@@ -31,10 +29,7 @@ public class CreateUserTest extends AbstractTaskTrackerTest {
                     .then()
                     .statusCode(200)
                     .body("name", equalTo(user.getName()))
-                    .body("admin", equalTo(user.getAdmin()))
-                    .extract().response();
-
-            resp.prettyPrint();
+                    .body("admin", equalTo(user.getAdmin()));
         }
     }
 
@@ -45,17 +40,14 @@ public class CreateUserTest extends AbstractTaskTrackerTest {
                     .name(null)
                     .build();
 
-            Response resp = given()
+            given()
                     .contentType("application/json")
                     .body(user)
                     .when()
                     .post(CREATE_USER_URI)
                     .then()
                     .statusCode(400)
-                    .body("errorMessage", equalTo(USER_NAME_NOT_SPECIFIED))
-                    .extract().response();
-
-            resp.prettyPrint();
+                    .body("errorMessage", equalTo(USER_NAME_NOT_SPECIFIED));
         }
     }
 
@@ -66,17 +58,14 @@ public class CreateUserTest extends AbstractTaskTrackerTest {
                 .name("")
                 .build();
 
-        Response resp = given()
+        given()
                 .contentType("application/json")
                 .body(user)
                 .when()
                 .post(CREATE_USER_URI)
                 .then()
                 .statusCode(400)
-                .body("errorMessage", equalTo(USER_NAME_NOT_SPECIFIED))
-                .extract().response();
-
-        resp.prettyPrint();
+                .body("errorMessage", equalTo(USER_NAME_NOT_SPECIFIED));
     }
 
     @Test
@@ -86,17 +75,14 @@ public class CreateUserTest extends AbstractTaskTrackerTest {
                     .name(randomString(USER_NAME_MAX_LENGTH + 1))
                     .build();
 
-            Response resp = given()
+            given()
                     .contentType("application/json")
                     .body(user)
                     .when()
                     .post(CREATE_USER_URI)
                     .then()
                     .statusCode(400)
-                    .body("errorMessage", equalTo(USER_NAME_TOO_LONG))
-                    .extract().response();
-
-            resp.prettyPrint();
+                    .body("errorMessage", equalTo(USER_NAME_TOO_LONG));
         }
     }
 
@@ -107,17 +93,14 @@ public class CreateUserTest extends AbstractTaskTrackerTest {
                     .admin(null)
                     .build();
 
-            Response resp = given()
+            given()
                     .contentType("application/json")
                     .body(user)
                     .when()
                     .post(CREATE_USER_URI)
                     .then()
                     .statusCode(400)
-                    .body("errorMessage", equalTo(IS_ADMIN_NOT_SPECIFIED))
-                    .extract().response();
-
-            resp.prettyPrint();
+                    .body("errorMessage", equalTo(IS_ADMIN_NOT_SPECIFIED));
         }
     }
 
@@ -129,7 +112,7 @@ public class CreateUserTest extends AbstractTaskTrackerTest {
 
         UserEntity user = buildUserEntity(groupId);
 
-        Response resp = given()
+        given()
                 .contentType("application/json")
                 .body(user)
                 .when()
@@ -138,9 +121,6 @@ public class CreateUserTest extends AbstractTaskTrackerTest {
                 .statusCode(200)
                 .body("name", equalTo(user.getName()))
                 .body("admin", equalTo(user.getAdmin()))
-                .body("groupId", equalTo(groupId))
-                .extract().response();
-
-        resp.prettyPrint();
+                .body("groupId", equalTo(groupId));
     }
 }
\ No newline at end of file
@@ -3,6 +3,9 @@ package com.family_tasks.user;
 import com.family_tasks.AbstractTaskTrackerTest;
 import com.family_tasks.dto.group.GroupEntity;
 import com.family_tasks.dto.user.UserEntity;
+import com.family_tasks.utils.mapper.UserMapper;
+import com.family_tasks.utils.response.UserResponse;
+import com.family_tasks.utils.schema.ApiSchema;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,7 +17,9 @@ import java.util.stream.Stream;
 import static com.family_tasks.UrlConstant.GET_USER_URI;
 import static com.family_tasks.ValidationMessage.*;
 import static com.family_tasks.utils.TestDataBaseUtils.insertUserIntoDB;
+import static com.family_tasks.utils.schema.SchemaValidator.assertMatches;
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 
 public class GetUserByIdTests extends AbstractTaskTrackerTest {
@@ -33,11 +38,10 @@ public class GetUserByIdTests extends AbstractTaskTrackerTest {
                 .get(GET_USER_URI + "/" + userId)
                 .then()
                 .statusCode(200)
-                .body("name", equalTo(user.getName()))
-                .body("admin", equalTo(user.getAdmin()))
                 .extract().response();
 
-        resp.prettyPrint();
+        assertMatches(ApiSchema.USER, resp);
+        assertUser(resp, user);
     }
 
     @Test
@@ -57,12 +61,9 @@ public class GetUserByIdTests extends AbstractTaskTrackerTest {
                 .get(GET_USER_URI + "/" + userId)
                 .then()
                 .statusCode(200)
-                .body("name", equalTo(user.getName()))
-                .body("admin", equalTo(user.getAdmin()))
-                .body("groupId", equalTo(groupId))
                 .extract().response();
 
-        resp.prettyPrint();
+        assertUser(resp, user);
     }
 
     @Test
@@ -79,36 +80,30 @@ public class GetUserByIdTests extends AbstractTaskTrackerTest {
                 .body("errorMessage", equalTo(String.format(USER_NOT_EXIST, nonExistUserId)))
                 .extract().response();
 
-        resp.prettyPrint();
+        assertMatches(ApiSchema.ERROR, resp);
     }
 
     @Test
     public void getUser_whenUserIdIsBlank_thenResourceNotFound() {
 
-        Response resp = given()
+        given()
                 .when()
                 .get(GET_USER_URI + "/")
                 .then()
-                .statusCode(404)
-                .extract().response();
-
-        resp.prettyPrint();
+                .statusCode(404);
     }
 
     @ParameterizedTest(name = "Invalid userId format: \"{0}\"")
     @MethodSource("invalidUserIdProvider")
     public void getUser_whenUserIdHasInvalidFormat_thenReturns400(String invalidUserId) {
 
-        Response resp = given()
+        given()
                 .when()
                 .get(GET_USER_URI + "/" + invalidUserId)
                 .then()
                 .statusCode(400)
                 .body("errorMessage",
-                        equalTo(String.format(ID_HAS_INVALID_FORMAT, invalidUserId)))
-                .extract().response();
-
-        resp.prettyPrint();
+                        equalTo(String.format(ID_HAS_INVALID_FORMAT, invalidUserId)));
     }
 
     private static Stream<Arguments> invalidUserIdProvider() {
@@ -125,17 +120,14 @@ public class GetUserByIdTests extends AbstractTaskTrackerTest {
     @MethodSource("sqlInjectionUserIds")
     void getUser_whenUserIdIsSqlInjection_thenReturns400or404(String userId) {
 
-        Response resp = given()
+        given()
                 .pathParam("userId", userId)
                 .when()
                 .get(GET_USER_URI + "/{userId}")
                 .then()
                 .statusCode(anyOf(is(400), is(404)))
                 .body(not(hasKey("stackTrace")))
-                .body(not(hasKey("exception")))
-                .extract().response();
-
-        resp.prettyPrint();
+                .body(not(hasKey("exception")));
     }
 
     static Stream<String> sqlInjectionUserIds() {
@@ -148,4 +140,11 @@ public class GetUserByIdTests extends AbstractTaskTrackerTest {
                 "1/*"
         );
     }
+
+    private static void assertUser(Response response, UserEntity expected) {
+        assertThat(UserMapper.INSTANCE.toEntity(UserResponse.from(response)))
+                .usingRecursiveComparison()
+                .comparingOnlyFields("id", "name", "admin", "groupId")
+                .isEqualTo(expected);
+    }
 }
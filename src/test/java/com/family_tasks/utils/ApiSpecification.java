@@ -0,0 +1,93 @@
+package com.family_tasks.utils;
+
+import com.family_tasks.utils.db.DbConfig;
+import io.github.cdimascio.dotenv.Dotenv;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.SocketConfig;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.net.URI;
+
+/**
+ * The request specification shared by all tests: base URI, JSON content type and one HTTP client whose pooled
+ * keep-alive connections are reused across requests and test classes instead of connecting for every request.
+ * <p>
+ * The base URL is {@code TASK_TRACKER_BASE_URL} from a system property, the {@code .env} file or the environment,
+ * {@value #DEFAULT_BASE_URL} by default. With {@code DB_ISOLATION=SCHEMA} the port is the one of the worker's
+ * app instance.
+ */
+public final class ApiSpecification {
+
+    public static final String DEFAULT_BASE_URL = "http://localhost:8080";
+
+    private ApiSpecification() {
+    }
+
+    public static RequestSpecification get() {
+        return Holder.SPECIFICATION;
+    }
+
+    public static URI baseUri() {
+        return Holder.BASE_URI;
+    }
+
+    private static URI resolveBaseUri() {
+        String baseUrl = System.getProperty("TASK_TRACKER_BASE_URL");
+        if (baseUrl == null) {
+            Dotenv dotenv = Dotenv.configure()
+                    .ignoreIfMissing()
+                    .load();
+            baseUrl = dotenv.get("TASK_TRACKER_BASE_URL", DEFAULT_BASE_URL);
+        }
+        URI uri = URI.create(baseUrl);
+
+        DbConfig config = DbConfig.get();
+        if (config.isSchemaPerWorker()) {
+            int port = TestConfig.get().getWorkerBasePort() + config.getWorkerId();
+            uri = URI.create(uri.getScheme() + "://" + uri.getHost() + ":" + port);
+        }
+        return uri;
+    }
+
+    private static RequestSpecification build() {
+        TestConfig config = TestConfig.get();
+        int poolSize = config.getHttpPoolSize();
+        int connectTimeoutMs = config.getConnectTimeoutMs();
+        int socketTimeoutMs = config.getSocketTimeoutMs();
+
+        HttpClientConfig httpClient = HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> {
+                    PoolingHttpClientConnectionManager connections = new PoolingHttpClientConnectionManager();
+                    connections.setMaxTotal(poolSize);
+                    connections.setDefaultMaxPerRoute(poolSize);
+                    connections.setDefaultSocketConfig(SocketConfig.custom()
+                            .setSoTimeout(socketTimeoutMs)
+                            .build());
+                    return HttpClientBuilder.create()
+                            .setConnectionManager(connections)
+                            .setDefaultRequestConfig(RequestConfig.custom()
+                                    .setConnectTimeout(connectTimeoutMs)
+                                    .setSocketTimeout(socketTimeoutMs)
+                                    .build())
+                            .build();
+                });
+
+        return new RequestSpecBuilder()
+                .setBaseUri(Holder.BASE_URI)
+                .setContentType(ContentType.JSON)
+                .setConfig(RestAssuredConfig.config().httpClient(httpClient))
+                .build();
+    }
+
+    private static final class Holder {
+        private static final URI BASE_URI = resolveBaseUri();
+        private static final RequestSpecification SPECIFICATION = build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.family_tasks.utils;
+
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.dto.user.UserEntity;
+import com.family_tasks.utils.db.CleanupRegistry;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static com.family_tasks.utils.TestDataBaseUtils.*;
+
+/**
+ * Non-blocking variants of the fixture helpers. Every insert runs on its own virtual thread, so independent
+ * inserts go to the DB concurrently over the connection pool, and an entity that needs another one (a group
+ * needs its owner, a task needs its reporter) is inserted as soon as that one's future completes.
+ * <p>
+ * Rows are tracked by the registry of the test that started the work, and the test's cleanup waits for work
+ * that is still running.
+ */
+public final class AsyncFixtures {
+
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private AsyncFixtures() {
+    }
+
+    /**
+     * Runs {@code fixture} on a virtual thread with the calling test's {@link CleanupRegistry} bound to it.
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> fixture) {
+        CleanupRegistry registry = CleanupRegistry.current();
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+            CleanupRegistry.bind(registry);
+            try {
+                return fixture.get();
+            } finally {
+                CleanupRegistry.bind(null);
+            }
+        }, EXECUTOR);
+        registry.trackPending(future);
+        return future;
+    }
+
+    /**
+     * Runs {@code fixture} with the result of {@code dependency} once it completes.
+     */
+    public static <T, R> CompletableFuture<R> after(CompletableFuture<T> dependency, Function<T, R> fixture) {
+        CleanupRegistry registry = CleanupRegistry.current();
+        CompletableFuture<R> future = dependency.thenApplyAsync(value -> {
+            CleanupRegistry.bind(registry);
+            try {
+                return fixture.apply(value);
+            } finally {
+                CleanupRegistry.bind(null);
+            }
+        }, EXECUTOR);
+        registry.trackPending(future);
+        return future;
+    }
+
+    public static CompletableFuture<UserEntity> insertUser(UserEntity user) {
+        return supply(() -> {
+            insertUserIntoDB(user);
+            return user;
+        });
+    }
+
+    public static CompletableFuture<TaskEntity> insertTask(CompletableFuture<Integer> reporterId,
+                                                           IntFunction<TaskEntity> taskFactory) {
+        return after(reporterId, id -> {
+            TaskEntity task = taskFactory.apply(id);
+            insertTaskIntoDB(task);
+            return task;
+        });
+    }
+
+    public static CompletableFuture<TaskEntity> insertTaskExecutors(CompletableFuture<TaskEntity> task,
+                                                                    List<Integer> executorIds) {
+        return after(task, t -> {
+            TestDataBaseUtils.insertTaskExecutors(t.getTaskId(), executorIds);
+            return t;
+        });
+    }
+
+    /**
+     * Waits for all futures and returns their results in order. A failed fixture is rethrown as is.
+     */
+    public static <T> List<T> joinAll(List<CompletableFuture<T>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (RuntimeException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+}
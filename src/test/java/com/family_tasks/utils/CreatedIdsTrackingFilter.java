@@ -0,0 +1,36 @@
+package com.family_tasks.utils;
+
+import com.family_tasks.utils.db.CleanupRegistry;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import static com.family_tasks.UrlConstant.*;
+
+/**
+ * Registers the ids of users, groups and tasks created through the API, so they are cleaned up after the test.
+ */
+public class CreatedIdsTrackingFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (!"POST".equals(requestSpec.getMethod()) || response.statusCode() != 200) {
+            return response;
+        }
+
+        CleanupRegistry registry = CleanupRegistry.current();
+        switch (requestSpec.getUserDefinedPath()) {
+            case CREATE_USER_URI -> registry.trackUser(response.path("id"));
+            case GROUP_URL -> registry.trackGroup(response.path("groupId"));
+            case TASKS_URI -> registry.trackTask(response.path("taskId"));
+            default -> {
+            }
+        }
+        return response;
+    }
+}
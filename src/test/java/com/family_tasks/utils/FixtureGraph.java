@@ -0,0 +1,177 @@
+package com.family_tasks.utils;
+
+import com.family_tasks.dto.group.GroupEntity;
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.dto.user.UserEntity;
+import com.family_tasks.utils.db.CleanupRegistry;
+
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.family_tasks.utils.TestDataBaseUtils.query;
+
+/**
+ * Describes a group with its owner, members, tasks and executor assignments, and inserts all of it with a single
+ * data-modifying CTE statement, so the setup takes one round trip however many rows it has.
+ * <p>
+ * User and group ids are taken from their sequences inside the statement and joined to the rows by ordinal;
+ * the foreign keys between users and groups are only checked at the end of the statement, so the cycle between
+ * them needs no follow-up UPDATE. The generated ids are written back to the entities and tracked for cleanup.
+ * <pre>{@code
+ * GroupEntity group = FixtureGraph.group(buildGroupEntity(null), owner)
+ *         .member(child)
+ *         .task(task, owner, child)
+ *         .insert();
+ * }</pre>
+ */
+public final class FixtureGraph {
+
+    private final GroupEntity group;
+    private final List<UserEntity> users = new ArrayList<>();
+    private final Map<UserEntity, Integer> ordinals = new IdentityHashMap<>();
+    private final List<TaskEntity> tasks = new ArrayList<>();
+    private final List<UserEntity> reporters = new ArrayList<>();
+    private final List<Assignment> assignments = new ArrayList<>();
+
+    private FixtureGraph(GroupEntity group, UserEntity owner) {
+        this.group = group;
+        member(owner);
+    }
+
+    public static FixtureGraph group(GroupEntity group, UserEntity owner) {
+        return new FixtureGraph(group, owner);
+    }
+
+    public FixtureGraph member(UserEntity member) {
+        if (ordinals.putIfAbsent(member, users.size() + 1) == null) {
+            users.add(member);
+        }
+        return this;
+    }
+
+    public FixtureGraph members(Collection<UserEntity> members) {
+        members.forEach(this::member);
+        return this;
+    }
+
+    /**
+     * Adds a task reported by {@code reporter} and assigned to {@code executors}, who all join the group
+     * if they aren't members yet.
+     */
+    public FixtureGraph task(TaskEntity task, UserEntity reporter, UserEntity... executors) {
+        member(reporter);
+        tasks.add(task);
+        reporters.add(reporter);
+        for (UserEntity executor : executors) {
+            member(executor);
+            assignments.add(new Assignment(task, executor));
+        }
+        return this;
+    }
+
+    /**
+     * Inserts the graph and returns the group with its id and owner id set.
+     */
+    public GroupEntity insert() {
+        List<Object> params = new ArrayList<>();
+        String sql = compile(params);
+        if (params.size() > TestDataBaseUtils.MAX_BIND_PARAMETERS) {
+            throw new IllegalStateException("Fixture graph needs " + params.size() + " bind parameters, at most "
+                    + TestDataBaseUtils.MAX_BIND_PARAMETERS + " are supported in one statement");
+        }
+
+        Map<Integer, Integer> ids = query(sql, rs -> {
+            Map<Integer, Integer> result = new HashMap<>();
+            while (rs.next()) {
+                result.put(rs.getInt("ord"), rs.getInt("id"));
+            }
+            return result;
+        }, params.toArray());
+
+        CleanupRegistry registry = CleanupRegistry.current();
+        int groupId = ids.get(0);
+        group.setGroupId(groupId);
+        registry.trackGroup(groupId);
+        for (int i = 0; i < users.size(); i++) {
+            UserEntity user = users.get(i);
+            user.setId(ids.get(i + 1));
+            user.setGroupId(groupId);
+            registry.trackUser(user.getId());
+        }
+        group.setOwnerId(users.get(0).getId());
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setReporterId(reporters.get(i).getId());
+            registry.trackTask(tasks.get(i).getTaskId());
+        }
+        return group;
+    }
+
+    private String compile(List<Object> params) {
+        StringBuilder sql = new StringBuilder("WITH user_ids AS (\n")
+                .append("    SELECT ord, nextval(pg_get_serial_sequence('users', 'id'))::int AS id\n")
+                .append("    FROM generate_series(1, ").append(users.size()).append(") AS ord\n")
+                .append("), group_id AS (\n")
+                .append("    SELECT nextval(pg_get_serial_sequence('groups', 'id'))::int AS id\n")
+                .append("), new_users AS (\n")
+                .append("    INSERT INTO users (id, name, admin, group_id, created_at, updated_at)\n")
+                .append("    SELECT u.id, v.name, v.admin, g.id, v.created_at, v.updated_at\n")
+                .append("    FROM (VALUES ").append(values(users.size(), i -> {
+                    UserEntity user = users.get(i);
+                    params.addAll(Arrays.asList(user.getName(), user.getAdmin(), user.getCreatedAt(), user.getUpdatedAt()));
+                    return (i + 1) + ", ?::text, ?::boolean, ?::timestamp, ?::timestamp";
+                })).append(") AS v (ord, name, admin, created_at, updated_at)\n")
+                .append("    JOIN user_ids u USING (ord) CROSS JOIN group_id g\n")
+                .append("), new_group AS (\n")
+                .append("    INSERT INTO groups (id, owner_id, created_at, updated_at, deleted_at)\n")
+                .append("    SELECT g.id, u.id, ?::timestamp, ?::timestamp, ?::timestamp\n")
+                .append("    FROM group_id g JOIN user_ids u ON u.ord = 1\n")
+                .append(")");
+        params.addAll(Arrays.asList(group.getCreatedAt(), group.getUpdatedAt(), group.getDeletedAt()));
+
+        if (!tasks.isEmpty()) {
+            sql.append(", new_tasks AS (\n")
+                    .append("    INSERT INTO tasks (id, name, description, priority, status, reporter_id,\n")
+                    .append("                       confidential, rewards_points, deadline, created_at, updated_at)\n")
+                    .append("    SELECT v.id, v.name, v.description, v.priority, v.status, u.id,\n")
+                    .append("           v.confidential, v.rewards_points, v.deadline, v.created_at, v.updated_at\n")
+                    .append("    FROM (VALUES ").append(values(tasks.size(), i -> {
+                        TaskEntity task = tasks.get(i);
+                        params.addAll(Arrays.asList(task.getTaskId(), task.getName(), task.getDescription(),
+                                task.getPriority(), task.getStatus(), task.isConfidential(), task.getRewardsPoints(),
+                                task.getDeadline(), task.getCreatedAt(), task.getUpdatedAt()));
+                        return ordinals.get(reporters.get(i)) + ", ?::text, ?::text, ?::text, ?::text, ?::text,"
+                                + " ?::boolean, ?::int, ?::date, ?::timestamp, ?::timestamp";
+                    })).append(") AS v (reporter_ord, id, name, description, priority, status,\n")
+                    .append("               confidential, rewards_points, deadline, created_at, updated_at)\n")
+                    .append("    JOIN user_ids u ON u.ord = v.reporter_ord\n")
+                    .append(")");
+        }
+        if (!assignments.isEmpty()) {
+            sql.append(", new_executors AS (\n")
+                    .append("    INSERT INTO executors_tasks (task_id, user_id)\n")
+                    .append("    SELECT v.task_id, u.id\n")
+                    .append("    FROM (VALUES ").append(values(assignments.size(), i -> {
+                        Assignment assignment = assignments.get(i);
+                        params.add(assignment.task().getTaskId());
+                        return ordinals.get(assignment.executor()) + ", ?::text";
+                    })).append(") AS v (user_ord, task_id)\n")
+                    .append("    JOIN user_ids u ON u.ord = v.user_ord\n")
+                    .append(")");
+        }
+        return sql.append("\nSELECT 0 AS ord, id FROM group_id\n")
+                .append("UNION ALL\n")
+                .append("SELECT ord, id FROM user_ids")
+                .toString();
+    }
+
+    private static String values(int count, IntFunction<String> row) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "(" + row.apply(i) + ")")
+                .collect(Collectors.joining(", "));
+    }
+
+    private record Assignment(TaskEntity task, UserEntity executor) {
+    }
+}
@@ -0,0 +1,102 @@
+package com.family_tasks.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * Test settings read once from {@code config.properties}. Any key can be overridden with a JVM system property
+ * of the same name, e.g. {@code -DTASK_TRACKER_HTTP_POOL_SIZE=50}. DB settings have typed accessors in
+ * {@link com.family_tasks.utils.db.DbConfig}, the API client ones here.
+ */
+public final class TestConfig {
+
+    private static final String CONFIG_FILE = "config.properties";
+
+    private static final int DEFAULT_HTTP_POOL_SIZE = 20;
+    private static final int DEFAULT_CONNECT_TIMEOUT_MS = 5_000;
+    private static final int DEFAULT_SOCKET_TIMEOUT_MS = 30_000;
+    private static final int DEFAULT_WORKER_BASE_PORT = 8080;
+    private static final int DEFAULT_CAPTURE_BUFFER_KB = 256;
+
+    private final Properties properties;
+
+    private TestConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static TestConfig get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Max number of pooled connections to the app, in total and per route.
+     */
+    public int getHttpPoolSize() {
+        return getInt("TASK_TRACKER_HTTP_POOL_SIZE", DEFAULT_HTTP_POOL_SIZE);
+    }
+
+    public int getConnectTimeoutMs() {
+        return getInt("TASK_TRACKER_CONNECT_TIMEOUT_MS", DEFAULT_CONNECT_TIMEOUT_MS);
+    }
+
+    /**
+     * Max time to wait for response data, also used as the request timeout of the async client.
+     */
+    public int getSocketTimeoutMs() {
+        return getInt("TASK_TRACKER_SOCKET_TIMEOUT_MS", DEFAULT_SOCKET_TIMEOUT_MS);
+    }
+
+    /**
+     * Port of the app instance of worker 1 when each worker has its own schema; worker {@code n} uses
+     * {@code port + n}.
+     */
+    public int getWorkerBasePort() {
+        return getInt("TASK_TRACKER_WORKER_BASE_PORT", DEFAULT_WORKER_BASE_PORT);
+    }
+
+    /**
+     * Size of the per-test buffer of captured HTTP exchanges.
+     */
+    public int getCaptureBufferKb() {
+        return getInt("CAPTURE_BUFFER_KB", DEFAULT_CAPTURE_BUFFER_KB);
+    }
+
+    public String get(String key, String defaultValue) {
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return Integer.parseInt(get(key, String.valueOf(defaultValue)).trim());
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return Long.parseLong(get(key, String.valueOf(defaultValue)).trim());
+    }
+
+    public String getRequired(String key) {
+        String value = get(key, null);
+        if (value == null) {
+            throw new IllegalStateException(key + " isn't specified in " + CONFIG_FILE);
+        }
+        return value;
+    }
+
+    private static TestConfig load() {
+        Properties props = new Properties();
+        try (InputStream is = TestConfig.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (is == null) {
+                throw new IllegalStateException(CONFIG_FILE + " isn't found on the classpath");
+            }
+            props.load(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + CONFIG_FILE, e);
+        }
+        return new TestConfig(props);
+    }
+
+    private static final class Holder {
+        private static final TestConfig INSTANCE = load();
+    }
+}
@@ -1,66 +1,116 @@
 package com.family_tasks.utils;
 
-import com.family_tasks.AbstractTaskTrackerTest;
 import com.family_tasks.dto.task.TaskEntity;
 import com.family_tasks.dto.group.GroupEntity;
 import com.family_tasks.dto.user.UserEntity;
+import com.family_tasks.utils.db.CleanupRegistry;
+import com.family_tasks.utils.db.ConnectionPool;
+import com.family_tasks.utils.db.DbConfig;
+import com.family_tasks.utils.db.ExecutorLink;
 
-import java.io.InputStream;
 import java.sql.*;
-import java.util.List;
-import java.util.Properties;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class TestDataBaseUtils {
 
-    private static Connection getConnection() throws Exception {
-        Properties props = new Properties();
-        try (InputStream is = AbstractTaskTrackerTest.class.getClassLoader()
-                .getResourceAsStream("config.properties")) {
-            props.load(is);
-            String JDBC_URL = props.getProperty("POSTGRES_URL").replace("db:5432", "localhost:5432");
-            String JDBC_USER = props.getProperty("POSTGRES_USER");
-            String JDBC_PASS = props.getProperty("POSTGRES_PASSWORD");
-            return DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASS);
-        }
+    /**
+     * Max number of bind parameters in one PostgreSQL statement.
+     */
+    static final int MAX_BIND_PARAMETERS = 65_535;
+
+    private static final String INSERT_GROUP_COLUMNS = "INSERT INTO groups (owner_id, created_at, updated_at, deleted_at) VALUES ";
+    private static final String INSERT_USER_COLUMNS = "INSERT INTO users (name, admin, group_id, created_at, updated_at) VALUES ";
+    private static final String INSERT_TASK_COLUMNS = """
+            INSERT INTO tasks (id, name, description, priority, status, reporter_id,
+                               confidential, rewards_points, deadline, created_at, updated_at)
+            VALUES\s""";
+    private static final String INSERT_EXECUTOR_COLUMNS = "INSERT INTO executors_tasks (task_id, user_id) VALUES ";
+
+    private static final int GROUP_PARAMS = 4;
+    private static final int USER_PARAMS = 5;
+    private static final int TASK_PARAMS = 11;
+    private static final int EXECUTOR_PARAMS = 2;
+
+    private static Connection getConnection() throws SQLException {
+        return ConnectionPool.getConnection();
     }
 
-    public static void executeDbQuery(String query) {
+    /**
+     * Executes an update with {@code ?} placeholders bound to {@code params} and returns the number of affected rows.
+     * The statement is prepared through the driver's per-connection cache, so repeated calls with the same SQL
+     * text don't parse it again.
+     */
+    public static int executeDbQuery(String sql, Object... params) {
         try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.executeUpdate(query);
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            bindParams(stmt, params);
+            return stmt.executeUpdate();
         } catch (Exception e) {
-            throw new RuntimeException("DB query execution failed: " + query, e);
+            throw new RuntimeException("DB query execution failed: " + sql, e);
         }
     }
 
-    public static <T> T query(String sql, ResultSetHandler<T> handler) {
+    public static <T> T query(String sql, ResultSetHandler<T> handler, Object... params) {
         try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            return handler.handle(rs);
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            bindParams(stmt, params);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return handler.handle(rs);
+            }
         } catch (Exception e) {
             throw new RuntimeException("Failed to execute query: " + sql, e);
         }
     }
 
+    /**
+     * Runs the query through a server-side cursor and maps rows lazily as the stream is consumed, fetching
+     * {@code DB_FETCH_SIZE} rows per round trip, so memory use doesn't depend on the result size.
+     * The connection is held until the stream is closed, so use it in try-with-resources.
+     */
+    public static <T> Stream<T> stream(String sql, RowMapper<T> mapper, Object... params) {
+        Cursor cursor = new Cursor();
+        try {
+            cursor.open(sql, DbConfig.get().getFetchSize(), params);
+        } catch (Exception e) {
+            cursor.close();
+            throw new RuntimeException("Failed to execute query: " + sql, e);
+        }
+
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!cursor.resultSet.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(cursor.resultSet));
+                    return true;
+                } catch (SQLException e) {
+                    throw new RuntimeException("Failed to read a row of: " + sql, e);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false).onClose(cursor::close);
+    }
+
     public static int insertGroupIntoDB(GroupEntity group) {
-        String sql = """
-                INSERT INTO groups (owner_id, created_at, updated_at, deleted_at)
-                                      VALUES (?, ?, ?, ?)
-                """;
+        String sql = INSERT_GROUP_COLUMNS + placeholders(GROUP_PARAMS);
         try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
-            stmt.setInt(1, group.getOwnerId());
-            stmt.setTimestamp(2, Timestamp.valueOf(group.getCreatedAt()));
-            stmt.setTimestamp(3, Timestamp.valueOf(group.getUpdatedAt()));
-            stmt.setTimestamp(4, Timestamp.valueOf(group.getDeletedAt()));
+            bindGroup(stmt, 0, group);
             stmt.executeUpdate();
 
             try (ResultSet keys = stmt.getGeneratedKeys()) {
                 if (keys.next()) {
                     int id = keys.getInt(1);
                     group.setGroupId(id);
+                    CleanupRegistry.current().trackGroup(id);
                     return id;
                 }
             }
@@ -71,25 +121,18 @@ public class TestDataBaseUtils {
     }
 
     public static int insertUserIntoDB(UserEntity userEntity) {
-        String sql = """
-                INSERT INTO users (name, admin, group_id, created_at, updated_at)
-                VALUES (?, ?, ?, ?, ?)
-                """;
+        String sql = INSERT_USER_COLUMNS + placeholders(USER_PARAMS);
         try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
-            stmt.setString(1, userEntity.getName());
-            stmt.setBoolean(2, userEntity.getAdmin());
-            stmt.setObject(3, userEntity.getGroupId());
-            stmt.setTimestamp(4, Timestamp.valueOf(userEntity.getCreatedAt()));
-            stmt.setTimestamp(5, Timestamp.valueOf(userEntity.getUpdatedAt()));
-
+            bindUser(stmt, 0, userEntity);
             stmt.executeUpdate();
 
             try (ResultSet keys = stmt.getGeneratedKeys()) {
                 if (keys.next()) {
                     int id = keys.getInt(1);
                     userEntity.setId(id);
+                    CleanupRegistry.current().trackUser(id);
                     return id;
                 }
             }
@@ -112,39 +155,20 @@ public class TestDataBaseUtils {
     }
 
     public static void insertTaskIntoDB(TaskEntity taskEntity) {
-        String sql = """
-                INSERT INTO tasks (id, name, description, priority, status, reporter_id,
-                                   confidential, rewards_points, deadline, created_at, updated_at)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-                """;
+        String sql = INSERT_TASK_COLUMNS + placeholders(TASK_PARAMS);
         try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            stmt.setString(1, taskEntity.getTaskId());
-            stmt.setString(2, taskEntity.getName());
-            stmt.setString(3, taskEntity.getDescription());
-            stmt.setString(4, taskEntity.getPriority());
-            stmt.setString(5, taskEntity.getStatus());
-            stmt.setInt(6, taskEntity.getReporterId());
-            stmt.setBoolean(7, taskEntity.isConfidential());
-
-            if (taskEntity.getRewardsPoints() == null) {
-                stmt.setNull(8, Types.INTEGER);
-            } else {
-                stmt.setInt(8, taskEntity.getRewardsPoints());
-            }
-            stmt.setTimestamp(9, Timestamp.valueOf(taskEntity.getDeadline().atStartOfDay()));
-            stmt.setTimestamp(10, Timestamp.valueOf(taskEntity.getCreatedAt()));
-            stmt.setTimestamp(11, Timestamp.valueOf(taskEntity.getUpdatedAt()));
-
+            bindTask(stmt, 0, taskEntity);
             stmt.executeUpdate();
+            CleanupRegistry.current().trackTask(taskEntity.getTaskId());
         } catch (Exception e) {
             throw new RuntimeException("Failed to insert task", e);
         }
     }
 
     public static void insertTaskExecutors(String taskId, List<Integer> executorIds) {
-        String executorSql = "INSERT INTO executors_tasks (task_id, user_id) VALUES (?, ?)";
+        String executorSql = INSERT_EXECUTOR_COLUMNS + placeholders(EXECUTOR_PARAMS);
         try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(executorSql)) {
 
@@ -159,8 +183,244 @@ public class TestDataBaseUtils {
         }
     }
 
+    //region Batch inserts
+
+    public static void insertGroupsIntoDB(List<GroupEntity> groups) {
+        insertGroupsIntoDB(groups, DbConfig.get().getBatchChunkSize());
+    }
+
+    /**
+     * Inserts the groups with multi-row INSERTs of up to {@code chunkSize} rows and sets the generated ids.
+     */
+    public static void insertGroupsIntoDB(List<GroupEntity> groups, int chunkSize) {
+        CleanupRegistry registry = CleanupRegistry.current();
+        insertInChunks(INSERT_GROUP_COLUMNS, GROUP_PARAMS, groups, chunkSize, TestDataBaseUtils::bindGroup, (group, id) -> {
+            group.setGroupId(id);
+            registry.trackGroup(id);
+        }, "groups");
+    }
+
+    public static void insertUsersIntoDB(List<UserEntity> users) {
+        insertUsersIntoDB(users, DbConfig.get().getBatchChunkSize());
+    }
+
+    /**
+     * Inserts the users with multi-row INSERTs of up to {@code chunkSize} rows and sets the generated ids.
+     */
+    public static void insertUsersIntoDB(List<UserEntity> users, int chunkSize) {
+        CleanupRegistry registry = CleanupRegistry.current();
+        insertInChunks(INSERT_USER_COLUMNS, USER_PARAMS, users, chunkSize, TestDataBaseUtils::bindUser, (user, id) -> {
+            user.setId(id);
+            registry.trackUser(id);
+        }, "users");
+    }
+
+    public static void insertTasksIntoDB(List<TaskEntity> tasks) {
+        insertTasksIntoDB(tasks, DbConfig.get().getBatchChunkSize());
+    }
+
+    public static void insertTasksIntoDB(List<TaskEntity> tasks, int chunkSize) {
+        insertInChunks(INSERT_TASK_COLUMNS, TASK_PARAMS, tasks, chunkSize,
+                TestDataBaseUtils::bindTask, null, "tasks");
+
+        CleanupRegistry registry = CleanupRegistry.current();
+        tasks.forEach(task -> registry.trackTask(task.getTaskId()));
+    }
+
+    public static void insertTaskExecutors(List<ExecutorLink> links) {
+        insertTaskExecutors(links, DbConfig.get().getBatchChunkSize());
+    }
+
+    public static void insertTaskExecutors(List<ExecutorLink> links, int chunkSize) {
+        insertInChunks(INSERT_EXECUTOR_COLUMNS, EXECUTOR_PARAMS, links, chunkSize,
+                TestDataBaseUtils::bindExecutor, null, "task executors");
+    }
+
+    /**
+     * Sends the rows as {@code INSERT ... VALUES (...), (...) RETURNING id} statements in one transaction.
+     * Ids taken from a sequence grow in the order of the VALUES list, so the sorted returned ids are written
+     * back to the rows in list order.
+     */
+    private static <T> void insertInChunks(String insertSql, int paramsPerRow, List<T> rows, int chunkSize,
+                                           RowBinder<T> binder, ObjIntConsumer<T> idSetter, String entityName) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int rowsPerChunk = Math.max(1, Math.min(chunkSize, MAX_BIND_PARAMETERS / paramsPerRow));
+
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                PreparedStatement fullChunk = null;
+                try {
+                    for (int from = 0; from < rows.size(); from += rowsPerChunk) {
+                        List<T> chunk = rows.subList(from, Math.min(from + rowsPerChunk, rows.size()));
+                        boolean isFull = chunk.size() == rowsPerChunk;
+                        if (isFull && fullChunk == null) {
+                            fullChunk = prepareChunk(conn, insertSql, paramsPerRow, rowsPerChunk, idSetter != null);
+                        }
+                        PreparedStatement stmt = isFull
+                                ? fullChunk
+                                : prepareChunk(conn, insertSql, paramsPerRow, chunk.size(), idSetter != null);
+                        try {
+                            executeChunk(stmt, paramsPerRow, chunk, binder, idSetter);
+                        } finally {
+                            if (stmt != fullChunk) {
+                                stmt.close();
+                            }
+                        }
+                    }
+                } finally {
+                    if (fullChunk != null) {
+                        fullChunk.close();
+                    }
+                }
+                conn.commit();
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to batch insert " + entityName, e);
+        }
+    }
+
+    private static PreparedStatement prepareChunk(Connection conn, String insertSql, int paramsPerRow,
+                                                  int rowCount, boolean returnIds) throws SQLException {
+        StringBuilder sql = new StringBuilder(insertSql);
+        String row = placeholders(paramsPerRow);
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(i == 0 ? "" : ", ").append(row);
+        }
+        if (returnIds) {
+            sql.append(" RETURNING id");
+        }
+        return conn.prepareStatement(sql.toString());
+    }
+
+    private static <T> void executeChunk(PreparedStatement stmt, int paramsPerRow, List<T> chunk,
+                                         RowBinder<T> binder, ObjIntConsumer<T> idSetter) throws SQLException {
+        for (int i = 0; i < chunk.size(); i++) {
+            binder.bind(stmt, i * paramsPerRow, chunk.get(i));
+        }
+        if (idSetter == null) {
+            stmt.executeUpdate();
+            return;
+        }
+
+        List<Integer> ids = new ArrayList<>(chunk.size());
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        Collections.sort(ids);
+        for (int i = 0; i < chunk.size(); i++) {
+            idSetter.accept(chunk.get(i), ids.get(i));
+        }
+    }
+
+    private static String placeholders(int count) {
+        return "(" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+
+    //endregion
+
+    //region Row binders
+
+    private static void bindGroup(PreparedStatement stmt, int offset, GroupEntity group) throws SQLException {
+        stmt.setInt(offset + 1, group.getOwnerId());
+        stmt.setTimestamp(offset + 2, toTimestamp(group.getCreatedAt()));
+        stmt.setTimestamp(offset + 3, toTimestamp(group.getUpdatedAt()));
+        stmt.setTimestamp(offset + 4, toTimestamp(group.getDeletedAt()));
+    }
+
+    private static void bindUser(PreparedStatement stmt, int offset, UserEntity user) throws SQLException {
+        stmt.setString(offset + 1, user.getName());
+        stmt.setBoolean(offset + 2, user.getAdmin());
+        stmt.setObject(offset + 3, user.getGroupId(), Types.INTEGER);
+        stmt.setTimestamp(offset + 4, toTimestamp(user.getCreatedAt()));
+        stmt.setTimestamp(offset + 5, toTimestamp(user.getUpdatedAt()));
+    }
+
+    private static void bindTask(PreparedStatement stmt, int offset, TaskEntity task) throws SQLException {
+        stmt.setString(offset + 1, task.getTaskId());
+        stmt.setString(offset + 2, task.getName());
+        stmt.setString(offset + 3, task.getDescription());
+        stmt.setString(offset + 4, task.getPriority());
+        stmt.setString(offset + 5, task.getStatus());
+        stmt.setInt(offset + 6, task.getReporterId());
+        stmt.setBoolean(offset + 7, task.isConfidential());
+
+        if (task.getRewardsPoints() == null) {
+            stmt.setNull(offset + 8, Types.INTEGER);
+        } else {
+            stmt.setInt(offset + 8, task.getRewardsPoints());
+        }
+        stmt.setTimestamp(offset + 9, Timestamp.valueOf(task.getDeadline().atStartOfDay()));
+        stmt.setTimestamp(offset + 10, toTimestamp(task.getCreatedAt()));
+        stmt.setTimestamp(offset + 11, toTimestamp(task.getUpdatedAt()));
+    }
+
+    private static void bindExecutor(PreparedStatement stmt, int offset, ExecutorLink link) throws SQLException {
+        stmt.setString(offset + 1, link.taskId());
+        stmt.setInt(offset + 2, link.userId());
+    }
+
+    private static void bindParams(PreparedStatement stmt, Object... params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            stmt.setObject(i + 1, params[i]);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement stmt, int offset, T row) throws SQLException;
+    }
+
+    //endregion
+
+    /**
+     * Holds the connection of a streaming query. Cursors only live inside a transaction, so auto-commit is off
+     * until the cursor is closed.
+     */
+    private static final class Cursor implements AutoCloseable {
+        private Connection connection;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+
+        void open(String sql, int fetchSize, Object... params) throws SQLException {
+            connection = getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            bindParams(statement, params);
+            resultSet = statement.executeQuery();
+        }
+
+        @Override
+        public void close() {
+            try (Connection conn = connection; PreparedStatement stmt = statement; ResultSet rs = resultSet) {
+                if (conn != null) {
+                    conn.rollback();
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to close a streaming query", e);
+            }
+        }
+    }
+
     @FunctionalInterface
     public interface ResultSetHandler<T> {
         T handle(ResultSet resultSet) throws SQLException;
     }
-}
\ No newline at end of file
+
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet resultSet) throws SQLException;
+    }
+}
@@ -1,27 +1,37 @@
 package com.family_tasks.utils;
 
-import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+/**
+ * Random test values. The overloads taking a {@link RandomGenerator} produce reproducible values from a seeded
+ * generator; the others use {@link ThreadLocalRandom}, which isn't contended when tests run concurrently.
+ */
 public class TestValuesUtils {
     private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
-    private static final SecureRandom RANDOM = new SecureRandom();
 
     public static String randomString(int length) {
-        StringBuilder sb = new StringBuilder(length);
+        return randomString(ThreadLocalRandom.current(), length);
+    }
+
+    public static String randomString(RandomGenerator random, int length) {
+        char[] chars = new char[length];
         for (int i = 0; i < length; i++) {
-            sb.append(ALPHABET.charAt(RANDOM.nextInt(ALPHABET.length())));
+            chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
         }
-        return sb.toString();
+        return new String(chars);
     }
 
     public static String randomNumeric(int length) {
-        StringBuilder sb = new StringBuilder(length);
+        return randomNumeric(ThreadLocalRandom.current(), length);
+    }
 
+    public static String randomNumeric(RandomGenerator random, int length) {
+        char[] chars = new char[length];
         for (int i = 0; i < length; i++) {
-            sb.append(RANDOM.nextInt(10));
+            chars[i] = (char) ('0' + random.nextInt(10));
         }
-
-        return sb.toString();
+        return new String(chars);
     }
 
     public static int randomInt() {
@@ -29,6 +39,6 @@ public class TestValuesUtils {
     }
 
     public static int randomInt(int from, int to) {
-        return RANDOM.nextInt(from, to);
+        return ThreadLocalRandom.current().nextInt(from, to);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.family_tasks.utils.capture;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Captures the HTTP exchanges of each test and prints them, pretty-printed, only when the test fails. Passing
+ * tests write nothing.
+ */
+public class CaptureOnFailureExtension implements BeforeEachCallback, AfterEachCallback, TestWatcher {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(CaptureOnFailureExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(ExchangeCapture.class, ExchangeCapture.begin());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ExchangeCapture.end();
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        ExchangeCapture capture = capture(context);
+        if (capture == null) {
+            return;
+        }
+        try {
+            System.out.println(report(context.getDisplayName(), capture));
+        } finally {
+            capture.release();
+        }
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        release(context);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        release(context);
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        release(context);
+    }
+
+    private static void release(ExtensionContext context) {
+        ExchangeCapture capture = capture(context);
+        if (capture != null) {
+            capture.release();
+        }
+    }
+
+    private static ExchangeCapture capture(ExtensionContext context) {
+        return context.getStore(NAMESPACE).remove(ExchangeCapture.class, ExchangeCapture.class);
+    }
+
+    private static String report(String test, ExchangeCapture capture) {
+        List<Exchange> exchanges = capture.exchanges();
+        StringBuilder report = new StringBuilder()
+                .append("HTTP exchanges of failed test ").append(test).append(": ").append(exchanges.size());
+        if (capture.dropped() > 0) {
+            report.append(" (").append(capture.dropped()).append(" older ones dropped)");
+        }
+        if (capture.oversized() > 0) {
+            report.append(" (").append(capture.oversized()).append(" too large for the buffer)");
+        }
+        for (Exchange exchange : exchanges) {
+            report.append(System.lineSeparator()).append(exchange.format());
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package com.family_tasks.utils.capture;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records each exchange into the {@link ExchangeCapture} of the running test; outside of a test it does nothing.
+ */
+public class CapturingFilter implements Filter {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        ExchangeCapture capture = ExchangeCapture.current();
+        if (capture != null) {
+            // The body RestAssured keeps for the test's own assertions; only its kept prefix is copied
+            capture.record(requestSpec.getMethod(), requestSpec.getURI(), response.statusCode(), response.getTime(),
+                    bodyBytes(requestSpec.getBody()), response.asByteArray());
+        }
+        return response;
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body == null) {
+            return NO_BODY;
+        }
+        return body instanceof byte[] bytes ? bytes : body.toString().getBytes(UTF_8);
+    }
+}
@@ -0,0 +1,78 @@
+package com.family_tasks.utils.capture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * One request and its response as captured by {@link CapturingFilter}, decoded from the buffer of an
+ * {@link ExchangeCapture}. Bodies are kept as raw bytes and only formatted by {@link #format()} when a failed
+ * test is reported.
+ */
+public record Exchange(String method,
+                       String uri,
+                       int statusCode,
+                       long durationMillis,
+                       byte[] requestBody,
+                       int requestBodyLength,
+                       byte[] responseBody,
+                       int responseBodyLength) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public String format() {
+        return method + " " + uri + System.lineSeparator()
+                + formatBody(requestBody, requestBodyLength)
+                + "-> " + statusCode + " in " + durationMillis + " ms" + System.lineSeparator()
+                + formatBody(responseBody, responseBodyLength);
+    }
+
+    static Exchange decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            String method = new String(in.readNBytes(in.readInt()), UTF_8);
+            String uri = new String(in.readNBytes(in.readInt()), UTF_8);
+            int statusCode = in.readInt();
+            long durationMillis = in.readLong();
+            int requestBodyLength = in.readInt();
+            byte[] requestBody = in.readNBytes(in.readInt());
+            int responseBodyLength = in.readInt();
+            byte[] responseBody = in.readNBytes(in.readInt());
+            return new Exchange(method, uri, statusCode, durationMillis,
+                    requestBody, requestBodyLength, responseBody, responseBodyLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode exchange", e);
+        }
+    }
+
+    private static String formatBody(byte[] body, int originalLength) {
+        if (originalLength == 0) {
+            return "";
+        }
+        String text;
+        if (body.length < originalLength) {
+            text = new String(body, UTF_8) + System.lineSeparator()
+                    + "... truncated, " + originalLength + " bytes in total";
+        } else {
+            text = prettyPrint(body);
+        }
+        return text + System.lineSeparator();
+    }
+
+    private static String prettyPrint(byte[] body) {
+        try {
+            return OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(OBJECT_MAPPER.readTree(body));
+        } catch (IOException e) {
+            return new String(body, UTF_8);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + uri + " -> " + statusCode;
+    }
+}
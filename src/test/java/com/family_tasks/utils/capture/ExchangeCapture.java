@@ -0,0 +1,176 @@
+package com.family_tasks.utils.capture;
+
+import com.family_tasks.utils.TestConfig;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The last HTTP exchanges of a test, kept in a fixed-size ring buffer outside of the heap. When the buffer is
+ * full the oldest exchanges are dropped, and bodies longer than a quarter of the buffer are truncated, so a
+ * test with many or large responses costs at most {@code CAPTURE_BUFFER_KB} of memory and no I/O. Exchanges are
+ * written field by field into the buffer, and only the kept part of a body is copied.
+ * <p>
+ * Like {@link com.family_tasks.utils.db.CleanupRegistry}, each test gets its own capture bound to the thread
+ * running it. Buffers are reused by later tests instead of allocating direct memory for each one.
+ */
+public final class ExchangeCapture {
+
+    private static final ThreadLocal<ExchangeCapture> CURRENT = new ThreadLocal<>();
+    private static final Queue<ExchangeCapture> POOL = new ConcurrentLinkedQueue<>();
+    private static final int CAPACITY = TestConfig.get().getCaptureBufferKb() * 1024;
+    private static final int MAX_BODY_BYTES = CAPACITY / 4;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(CAPACITY);
+    private final byte[] scratch = new byte[Long.BYTES];
+    private int head;
+    private int tail;
+    private int used;
+    private int dropped;
+    private int oversized;
+
+    private ExchangeCapture() {
+    }
+
+    /**
+     * The capture of the calling thread's test, {@code null} outside of a test.
+     */
+    public static ExchangeCapture current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds an empty capture to the calling thread for the duration of a test.
+     */
+    public static ExchangeCapture begin() {
+        ExchangeCapture capture = POOL.poll();
+        if (capture == null) {
+            capture = new ExchangeCapture();
+        }
+        CURRENT.set(capture);
+        return capture;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the buffer to the pool once its exchanges are no longer needed.
+     */
+    public synchronized void release() {
+        head = 0;
+        tail = 0;
+        used = 0;
+        dropped = 0;
+        oversized = 0;
+        POOL.offer(this);
+    }
+
+    /**
+     * Writes the exchange into the buffer in the layout {@link Exchange#decode(byte[])} reads, keeping the original
+     * body lengths and at most a quarter of the buffer of each body.
+     */
+    public synchronized void record(String method, String uri, int statusCode, long durationMillis,
+                                    byte[] requestBody, byte[] responseBody) {
+        byte[] methodBytes = method.getBytes(UTF_8);
+        byte[] uriBytes = uri.getBytes(UTF_8);
+        int requestKept = Math.min(requestBody.length, MAX_BODY_BYTES);
+        int responseKept = Math.min(responseBody.length, MAX_BODY_BYTES);
+        int length = 2 * Integer.BYTES + methodBytes.length + uriBytes.length + Integer.BYTES + Long.BYTES
+                + 4 * Integer.BYTES + requestKept + responseKept;
+        int size = LENGTH_BYTES + length;
+        if (size > CAPACITY) {
+            oversized++;
+            return;
+        }
+        while (used + size > CAPACITY) {
+            int oldest = readInt(tail);
+            tail = (tail + LENGTH_BYTES + oldest) % CAPACITY;
+            used -= LENGTH_BYTES + oldest;
+            dropped++;
+        }
+        head = writeInt(head, length);
+        head = writeInt(head, methodBytes.length);
+        head = write(head, methodBytes, methodBytes.length);
+        head = writeInt(head, uriBytes.length);
+        head = write(head, uriBytes, uriBytes.length);
+        head = writeInt(head, statusCode);
+        head = writeLong(head, durationMillis);
+        head = writeInt(head, requestBody.length);
+        head = writeInt(head, requestKept);
+        head = write(head, requestBody, requestKept);
+        head = writeInt(head, responseBody.length);
+        head = writeInt(head, responseKept);
+        head = write(head, responseBody, responseKept);
+        used += size;
+    }
+
+    /**
+     * The kept exchanges, oldest first.
+     */
+    public synchronized List<Exchange> exchanges() {
+        List<Exchange> exchanges = new ArrayList<>();
+        int position = tail;
+        int remaining = used;
+        while (remaining > 0) {
+            int length = readInt(position);
+            position = (position + LENGTH_BYTES) % CAPACITY;
+            byte[] record = new byte[length];
+            read(position, record);
+            exchanges.add(Exchange.decode(record));
+            position = (position + length) % CAPACITY;
+            remaining -= LENGTH_BYTES + length;
+        }
+        return exchanges;
+    }
+
+    /**
+     * The number of exchanges dropped to make room for newer ones.
+     */
+    public synchronized int dropped() {
+        return dropped;
+    }
+
+    /**
+     * The number of exchanges not kept at all, because even truncated they are larger than the buffer.
+     */
+    public synchronized int oversized() {
+        return oversized;
+    }
+
+    private int write(int position, byte[] bytes, int length) {
+        int first = Math.min(length, CAPACITY - position);
+        buffer.put(position, bytes, 0, first);
+        buffer.put(0, bytes, first, length - first);
+        return (position + length) % CAPACITY;
+    }
+
+    private int writeInt(int position, int value) {
+        ByteBuffer.wrap(scratch).putInt(0, value);
+        return write(position, scratch, Integer.BYTES);
+    }
+
+    private int writeLong(int position, long value) {
+        ByteBuffer.wrap(scratch).putLong(0, value);
+        return write(position, scratch, Long.BYTES);
+    }
+
+    private void read(int position, byte[] bytes) {
+        int first = Math.min(bytes.length, CAPACITY - position);
+        buffer.get(position, bytes, 0, first);
+        buffer.get(0, bytes, first, bytes.length - first);
+    }
+
+    private int readInt(int position) {
+        byte[] bytes = new byte[LENGTH_BYTES];
+        read(position, bytes);
+        return ByteBuffer.wrap(bytes).getInt();
+    }
+}
@@ -0,0 +1,78 @@
+package com.family_tasks.utils.dataset;
+
+import com.family_tasks.enums.TaskPriority;
+import com.family_tasks.enums.TaskStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Shape of a dataset produced by {@link FamilyDatasetGenerator}. The same profile and seed always produce
+ * the same rows.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class DatasetProfile {
+
+    @Builder.Default
+    private long seed = 42;
+    @Builder.Default
+    private int families = 1_000;
+
+    /**
+     * Member counts are normally distributed around the mean and clamped to {@code [1, maxMembers]}.
+     */
+    @Builder.Default
+    private double meanMembers = 3.2;
+    @Builder.Default
+    private double membersStdDev = 1.3;
+    @Builder.Default
+    private int maxMembers = 8;
+
+    /**
+     * Share of the members who report tasks at all.
+     */
+    @Builder.Default
+    private double reporterRatio = 0.7;
+    /**
+     * Tasks per reporter follow a Zipf distribution over {@code 1..maxTasksPerReporter}: most reporters have
+     * a few tasks, a handful have hundreds.
+     */
+    @Builder.Default
+    private int maxTasksPerReporter = 200;
+    @Builder.Default
+    private double tasksZipfExponent = 1.2;
+
+    @Builder.Default
+    private Map<TaskStatus, Double> statusWeights = Map.of(
+            TaskStatus.TO_DO, 0.35,
+            TaskStatus.IN_PROGRESS, 0.25,
+            TaskStatus.COMPLETED, 0.30,
+            TaskStatus.CANCELLED, 0.10);
+    @Builder.Default
+    private Map<TaskPriority, Double> priorityWeights = Map.of(
+            TaskPriority.LOW, 0.40,
+            TaskPriority.MEDIUM, 0.35,
+            TaskPriority.HIGH, 0.20,
+            TaskPriority.CRITICAL, 0.05);
+
+    /**
+     * Executors per task are uniform over {@code 0..maxExecutors}, limited by the family size.
+     */
+    @Builder.Default
+    private int maxExecutors = 3;
+    @Builder.Default
+    private double confidentialRatio = 0.1;
+    @Builder.Default
+    private int maxRewardsPoints = 100;
+    @Builder.Default
+    private int descriptionLength = 64;
+
+    /**
+     * Creation times are spread over the year before this instant; a fixed value keeps datasets reproducible.
+     */
+    @Builder.Default
+    private LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+}
@@ -0,0 +1,15 @@
+package com.family_tasks.utils.dataset;
+
+import com.family_tasks.dto.group.GroupEntity;
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.dto.user.UserEntity;
+import com.family_tasks.utils.db.ExecutorLink;
+
+import java.util.List;
+
+/**
+ * A group with its members, the tasks they reported and the executors of those tasks. The first member owns
+ * the group.
+ */
+public record Family(GroupEntity group, List<UserEntity> members, List<TaskEntity> tasks, List<ExecutorLink> executors) {
+}
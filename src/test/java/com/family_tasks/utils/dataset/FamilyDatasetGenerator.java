@@ -0,0 +1,233 @@
+package com.family_tasks.utils.dataset;
+
+import com.family_tasks.dto.group.GroupEntity;
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.dto.user.UserEntity;
+import com.family_tasks.enums.TaskPriority;
+import com.family_tasks.enums.TaskStatus;
+import com.family_tasks.utils.db.BulkLoadStats;
+import com.family_tasks.utils.db.BulkLoader;
+import com.family_tasks.utils.db.ExecutorLink;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.family_tasks.utils.TestValuesUtils.randomString;
+import static com.family_tasks.utils.db.BulkLoader.reserveIdRange;
+
+/**
+ * Generates reproducible families of users, groups, tasks and executor links as described by a
+ * {@link DatasetProfile}.
+ * <p>
+ * Every family is derived from the seed and its index alone, so families are generated lazily and
+ * independently, and each stream can be consumed again with the same result. This lets {@link #load()}
+ * stream the dataset once per table without holding it in memory. Family {@code i} owns the user ids
+ * {@code firstUserId + i * maxMembers ...} and the group id {@code firstGroupId + i}.
+ * <p>
+ * Generated rows aren't tracked by the cleanup registry; seed large datasets together with a snapshot
+ * {@code DB_RESET_STRATEGY}.
+ */
+public final class FamilyDatasetGenerator {
+
+    private static final long GROUP_SALT = 1;
+    private static final long MEMBERS_SALT = 2;
+    private static final long TASKS_SALT = 3;
+
+    private static final int NAME_LENGTH = 8;
+    private static final long YEAR_SECONDS = 365L * 24 * 60 * 60;
+    private static final long MONTH_SECONDS = 30L * 24 * 60 * 60;
+    private static final int MAX_DEADLINE_DAYS = 60;
+
+    private final DatasetProfile profile;
+    private final int firstUserId;
+    private final int firstGroupId;
+    private final ZipfSampler tasksPerReporter;
+    private final WeightedChoice<TaskStatus> statuses;
+    private final WeightedChoice<TaskPriority> priorities;
+
+    public FamilyDatasetGenerator(DatasetProfile profile, int firstUserId, int firstGroupId) {
+        this.profile = profile;
+        this.firstUserId = firstUserId;
+        this.firstGroupId = firstGroupId;
+        this.tasksPerReporter = new ZipfSampler(profile.getMaxTasksPerReporter(), profile.getTasksZipfExponent());
+        this.statuses = new WeightedChoice<>(TaskStatus.class, profile.getStatusWeights());
+        this.priorities = new WeightedChoice<>(TaskPriority.class, profile.getPriorityWeights());
+    }
+
+    /**
+     * A generator whose user and group ids are reserved from the DB sequences, so the dataset can be loaded
+     * next to the rows created by the application.
+     */
+    public static FamilyDatasetGenerator withReservedIds(DatasetProfile profile) {
+        int users = Math.multiplyExact(profile.getFamilies(), profile.getMaxMembers());
+        return new FamilyDatasetGenerator(profile,
+                reserveIdRange("users", users),
+                reserveIdRange("groups", profile.getFamilies()));
+    }
+
+    public Stream<Family> families() {
+        return indexes().mapToObj(this::family);
+    }
+
+    public Stream<GroupEntity> groups() {
+        return indexes().mapToObj(this::group);
+    }
+
+    public Stream<UserEntity> users() {
+        return indexes().mapToObj(this::members).flatMap(List::stream);
+    }
+
+    public Stream<TaskEntity> tasks() {
+        return families().flatMap(family -> family.tasks().stream());
+    }
+
+    public Stream<ExecutorLink> executors() {
+        return families().flatMap(family -> family.executors().stream());
+    }
+
+    public Family family(int index) {
+        List<UserEntity> members = members(index);
+        List<TaskEntity> tasks = new ArrayList<>();
+        List<ExecutorLink> executors = new ArrayList<>();
+
+        SplittableRandom random = random(index, TASKS_SALT);
+        int maxExecutors = Math.min(profile.getMaxExecutors(), members.size());
+        for (UserEntity reporter : members) {
+            if (random.nextDouble() >= profile.getReporterRatio()) {
+                continue;
+            }
+            int count = tasksPerReporter.sample(random);
+            for (int i = 0; i < count; i++) {
+                TaskEntity task = task(random, reporter.getId());
+                tasks.add(task);
+
+                int fanOut = random.nextInt(maxExecutors + 1);
+                int first = random.nextInt(members.size());
+                for (int e = 0; e < fanOut; e++) {
+                    executors.add(new ExecutorLink(task.getTaskId(), members.get((first + e) % members.size()).getId()));
+                }
+            }
+        }
+        return new Family(group(index), members, tasks, executors);
+    }
+
+    /**
+     * Loads the dataset with {@code COPY}: users without their group, groups, the users' group ids, tasks and
+     * executor links. Families are regenerated for every step instead of being kept in memory.
+     */
+    public List<BulkLoadStats> load() {
+        List<BulkLoadStats> stats = new ArrayList<>();
+        stats.add(BulkLoader.copyUsers(users().peek(user -> user.setGroupId(null))));
+        stats.add(BulkLoader.copyGroups(groups()));
+        stats.add(BulkLoader.assignUserGroups(users()));
+        stats.add(BulkLoader.copyTasks(tasks()));
+        stats.add(BulkLoader.copyExecutors(executors()));
+        return stats;
+    }
+
+    /**
+     * Writes one COPY text file per table to {@code dir}. {@code users} and {@code groups} reference each
+     * other, so load the files with {@code session_replication_role = replica} or in one transaction with
+     * deferred constraints.
+     */
+    public List<BulkLoadStats> writeFiles(Path dir) {
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create " + dir, e);
+        }
+        List<BulkLoadStats> stats = new ArrayList<>();
+        stats.add(BulkLoader.writeFile(BulkLoader.USERS, users(), dir.resolve("users.tsv")));
+        stats.add(BulkLoader.writeFile(BulkLoader.GROUPS, groups(), dir.resolve("groups.tsv")));
+        stats.add(BulkLoader.writeFile(BulkLoader.TASKS, tasks(), dir.resolve("tasks.tsv")));
+        stats.add(BulkLoader.writeFile(BulkLoader.EXECUTORS, executors(), dir.resolve("executors_tasks.tsv")));
+        return stats;
+    }
+
+    private IntStream indexes() {
+        return IntStream.range(0, profile.getFamilies());
+    }
+
+    private GroupEntity group(int index) {
+        LocalDateTime createdAt = groupCreatedAt(index);
+        return GroupEntity.builder()
+                .groupId(firstGroupId + index)
+                .ownerId(userId(index, 0))
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private List<UserEntity> members(int index) {
+        SplittableRandom random = random(index, MEMBERS_SALT);
+        long size = Math.round(profile.getMeanMembers() + profile.getMembersStdDev() * random.nextGaussian());
+        int count = Math.clamp(size, 1, profile.getMaxMembers());
+
+        LocalDateTime groupCreatedAt = groupCreatedAt(index);
+        List<UserEntity> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = groupCreatedAt.plusSeconds(random.nextLong(MONTH_SECONDS));
+            members.add(UserEntity.builder()
+                    .id(userId(index, i))
+                    .name("user_" + randomString(random, NAME_LENGTH))
+                    .admin(i == 0)
+                    .groupId(firstGroupId + index)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        return members;
+    }
+
+    private TaskEntity task(RandomGenerator random, int reporterId) {
+        LocalDateTime createdAt = profile.getBaseTime().minusSeconds(random.nextLong(YEAR_SECONDS));
+        return TaskEntity.builder()
+                .taskId(uuid(random).toString())
+                .name("task_" + randomString(random, NAME_LENGTH))
+                .description(randomString(random, profile.getDescriptionLength()))
+                .status(statuses.pick(random).name())
+                .priority(priorities.pick(random).name())
+                .reporterId(reporterId)
+                .confidential(random.nextDouble() < profile.getConfidentialRatio())
+                .rewardsPoints(random.nextInt(profile.getMaxRewardsPoints() + 1))
+                .deadline(createdAt.toLocalDate().plusDays(1 + random.nextInt(MAX_DEADLINE_DAYS)))
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusSeconds(random.nextLong(MONTH_SECONDS)))
+                .build();
+    }
+
+    private LocalDateTime groupCreatedAt(int index) {
+        return profile.getBaseTime().minusSeconds(random(index, GROUP_SALT).nextLong(YEAR_SECONDS));
+    }
+
+    private int userId(int familyIndex, int member) {
+        return firstUserId + familyIndex * profile.getMaxMembers() + member;
+    }
+
+    /**
+     * Seeds derived from neighbouring indexes are scrambled, as {@link SplittableRandom} instances seeded
+     * with values a multiple of its increment apart would produce shifted copies of the same sequence.
+     */
+    private SplittableRandom random(int index, long salt) {
+        return new SplittableRandom(mix64(mix64(profile.getSeed() + salt) + index));
+    }
+
+    private static UUID uuid(RandomGenerator random) {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,53 @@
+package com.family_tasks.utils.dataset;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks enum constants with probability proportional to their weights, by a binary search over the cumulative
+ * distribution. Constants are laid out in declaration order, so a seeded generator picks the same ones whatever
+ * the map implementation. Immutable and safe to share between threads.
+ */
+public final class WeightedChoice<E extends Enum<E>> {
+
+    private final E[] values;
+    private final double[] cumulative;
+
+    public WeightedChoice(Class<E> type, Map<E, Double> weights) {
+        Map<E, Double> ordered = new EnumMap<>(type);
+        ordered.putAll(weights);
+        ordered.values().removeIf(weight -> weight <= 0);
+        if (ordered.isEmpty()) {
+            throw new IllegalArgumentException("No " + type.getSimpleName() + " has a positive weight: " + weights);
+        }
+        double total = ordered.values().stream().mapToDouble(Double::doubleValue).sum();
+        values = ordered.keySet().toArray(Arrays.copyOf(type.getEnumConstants(), 0));
+        cumulative = new double[values.length];
+        double sum = 0;
+        int i = 0;
+        for (double weight : ordered.values()) {
+            sum += weight / total;
+            cumulative[i++] = sum;
+        }
+        cumulative[cumulative.length - 1] = 1.0;
+    }
+
+    public E pick(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return values[index >= 0 ? index : -index - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("{");
+        double previous = 0;
+        for (int i = 0; i < values.length; i++) {
+            text.append(i == 0 ? "" : ", ").append(values[i])
+                    .append(String.format("=%.1f%%", (cumulative[i] - previous) * 100));
+            previous = cumulative[i];
+        }
+        return text.append('}').toString();
+    }
+}
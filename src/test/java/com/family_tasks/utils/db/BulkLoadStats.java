@@ -0,0 +1,22 @@
+package com.family_tasks.utils.db;
+
+import java.time.Duration;
+
+public record BulkLoadStats(String table, long rows, long bytes, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        long nanos = Math.max(elapsed.toNanos(), 1);
+        return rows * 1_000_000_000d / nanos;
+    }
+
+    public double megabytesPerSecond() {
+        long nanos = Math.max(elapsed.toNanos(), 1);
+        return bytes * 1_000_000_000d / nanos / (1024 * 1024);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d rows, %.1f MiB in %d ms (%.0f rows/s, %.1f MiB/s)",
+                table, rows, bytes / (1024d * 1024), elapsed.toMillis(), rowsPerSecond(), megabytesPerSecond());
+    }
+}
@@ -0,0 +1,294 @@
+package com.family_tasks.utils.db;
+
+import com.family_tasks.dto.group.GroupEntity;
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.dto.user.UserEntity;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Streams large fixture datasets into the DB with {@code COPY ... FROM STDIN}.
+ * <p>
+ * Rows are pulled from the given stream and encoded on a producer thread while the calling thread writes the
+ * encoded chunks to the connection, so generation and loading overlap. The queue between them is bounded, so
+ * memory use doesn't depend on the number of rows. Each stream is consumed and closed by the loader.
+ * <p>
+ * Rows are written with the ids already set on the entities; use {@link #reserveIds(String, int)} to take ids
+ * from the table's sequence. As {@code users.group_id} and {@code groups.owner_id} reference each other, load
+ * new families as: users without a group, then groups, then {@link #assignUserGroups(Stream)}.
+ */
+public final class BulkLoader {
+
+    private static final int CHUNK_CHARS = 256 * 1024;
+    private static final int QUEUE_CAPACITY = 8;
+    private static final byte[] END_OF_DATA = new byte[0];
+
+    public static final Target<UserEntity> USERS = new Target<>("users",
+            "id, name, admin, group_id, created_at, updated_at", (user, row) -> row
+            .add(user.getId())
+            .add(user.getName())
+            .add(user.getAdmin())
+            .add(user.getGroupId())
+            .add(user.getCreatedAt())
+            .add(user.getUpdatedAt()));
+
+    public static final Target<GroupEntity> GROUPS = new Target<>("groups",
+            "id, owner_id, created_at, updated_at, deleted_at", (group, row) -> row
+            .add(group.getGroupId())
+            .add(group.getOwnerId())
+            .add(group.getCreatedAt())
+            .add(group.getUpdatedAt())
+            .add(group.getDeletedAt()));
+
+    public static final Target<TaskEntity> TASKS = new Target<>("tasks", """
+            id, name, description, priority, status, reporter_id,
+            confidential, rewards_points, deadline, created_at, updated_at""", (task, row) -> row
+            .add(task.getTaskId())
+            .add(task.getName())
+            .add(task.getDescription())
+            .add(task.getPriority())
+            .add(task.getStatus())
+            .add(task.getReporterId())
+            .add(task.isConfidential())
+            .add(task.getRewardsPoints())
+            .add(task.getDeadline())
+            .add(task.getCreatedAt())
+            .add(task.getUpdatedAt()));
+
+    public static final Target<ExecutorLink> EXECUTORS = new Target<>("executors_tasks",
+            "task_id, user_id", (link, row) -> row
+            .add(link.taskId())
+            .add(link.userId()));
+
+    private BulkLoader() {
+    }
+
+    public static BulkLoadStats copyUsers(Stream<UserEntity> users) {
+        return copy(USERS, users);
+    }
+
+    public static BulkLoadStats copyGroups(Stream<GroupEntity> groups) {
+        return copy(GROUPS, groups);
+    }
+
+    public static BulkLoadStats copyTasks(Stream<TaskEntity> tasks) {
+        return copy(TASKS, tasks);
+    }
+
+    public static BulkLoadStats copyExecutors(Stream<ExecutorLink> links) {
+        return copy(EXECUTORS, links);
+    }
+
+    /**
+     * Sets {@code users.group_id} from the given entities through a temporary table and a single UPDATE.
+     */
+    public static BulkLoadStats assignUserGroups(Stream<UserEntity> users) {
+        long start = System.nanoTime();
+        try (Connection conn = ConnectionPool.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TEMP TABLE tmp_user_groups (user_id integer, group_id integer) ON COMMIT DROP");
+                BulkLoadStats copied = copy(conn, "tmp_user_groups", "user_id, group_id", users, (user, row) -> row
+                        .add(user.getId())
+                        .add(user.getGroupId()));
+                stmt.executeUpdate("UPDATE users u SET group_id = t.group_id FROM tmp_user_groups t WHERE u.id = t.user_id");
+                conn.commit();
+                return new BulkLoadStats("users.group_id", copied.rows(), copied.bytes(),
+                        Duration.ofNanos(System.nanoTime() - start));
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            restoreInterrupt(e);
+            throw new RuntimeException("Failed to bulk assign user groups", e);
+        }
+    }
+
+    /**
+     * Takes {@code count} ids from the sequence backing {@code table.id} in one round trip.
+     */
+    public static int[] reserveIds(String table, int count) {
+        String sql = "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)";
+        try (Connection conn = ConnectionPool.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, table);
+            stmt.setInt(2, count);
+
+            int[] ids = new int[count];
+            try (ResultSet rs = stmt.executeQuery()) {
+                for (int i = 0; rs.next(); i++) {
+                    ids[i] = rs.getInt(1);
+                }
+            }
+            return ids;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to reserve " + count + " ids for " + table, e);
+        }
+    }
+
+    /**
+     * Moves the sequence backing {@code table.id} past {@code count} ids and returns the first of them. Unlike
+     * {@link #reserveIds(String, int)} the range is contiguous, but ids taken concurrently by other sessions may
+     * fall into it, so reserve ranges while seeding, before the tests start.
+     */
+    public static int reserveIdRange(String table, int count) {
+        String sql = """
+                WITH s AS (SELECT pg_get_serial_sequence(?, 'id') AS seq)
+                SELECT setval(seq, nextval(seq) + ? - 1) FROM s""";
+        try (Connection conn = ConnectionPool.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, table);
+            stmt.setInt(2, count);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                return Math.toIntExact(rs.getLong(1) - count + 1);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to reserve " + count + " ids for " + table, e);
+        }
+    }
+
+    public static <T> BulkLoadStats copy(Target<T> target, Stream<T> rows) {
+        return copy(target.table(), target.columns(), rows, target.encoder());
+    }
+
+    public static <T> BulkLoadStats copy(String table, String columns, Stream<T> rows, RowEncoder<T> encoder) {
+        try (Connection conn = ConnectionPool.getConnection()) {
+            return copy(conn, table, columns, rows, encoder);
+        } catch (Exception e) {
+            restoreInterrupt(e);
+            throw new RuntimeException("Failed to bulk load " + table, e);
+        }
+    }
+
+    /**
+     * Writes the rows to {@code file} in the COPY text format, to be loaded later with
+     * {@code COPY <table> (<columns>) FROM '<file>'} or {@code \copy}.
+     */
+    public static <T> BulkLoadStats writeFile(Target<T> target, Stream<T> rows, Path file) {
+        long start = System.nanoTime();
+        CopyTextWriter writer = new CopyTextWriter(CHUNK_CHARS + CHUNK_CHARS / 4);
+        long count = 0;
+        long bytes = 0;
+        try (rows; OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                target.encoder().encode(iterator.next(), writer);
+                writer.endRow();
+                count++;
+                if (writer.length() >= CHUNK_CHARS || !iterator.hasNext()) {
+                    byte[] chunk = writer.drain().getBytes(UTF_8);
+                    out.write(chunk);
+                    bytes += chunk.length;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + target.table() + " rows to " + file, e);
+        }
+        return new BulkLoadStats(target.table(), count, bytes, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static <T> BulkLoadStats copy(Connection conn, String table, String columns,
+                                          Stream<T> rows, RowEncoder<T> encoder) throws Exception {
+        long start = System.nanoTime();
+        BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        AtomicReference<Throwable> producerFailure = new AtomicReference<>();
+
+        CopyIn copyIn;
+        try {
+            copyIn = conn.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY " + table + " (" + columns + ") FROM STDIN");
+        } catch (Exception e) {
+            rows.close();
+            throw e;
+        }
+
+        Thread producer = Thread.ofPlatform()
+                .name("bulk-load-" + table)
+                .daemon()
+                .start(() -> produce(rows, encoder, chunks, producerFailure));
+        long bytes = 0;
+        try {
+            for (byte[] chunk = chunks.take(); chunk != END_OF_DATA; chunk = chunks.take()) {
+                copyIn.writeToCopy(chunk, 0, chunk.length);
+                bytes += chunk.length;
+            }
+            if (producerFailure.get() != null) {
+                throw new IllegalStateException("Failed to produce rows for " + table, producerFailure.get());
+            }
+            long copied = copyIn.endCopy();
+            return new BulkLoadStats(table, copied, bytes, Duration.ofNanos(System.nanoTime() - start));
+        } catch (Exception e) {
+            producer.interrupt();
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            throw e;
+        }
+    }
+
+    private static <T> void produce(Stream<T> rows, RowEncoder<T> encoder,
+                                    BlockingQueue<byte[]> chunks, AtomicReference<Throwable> failure) {
+        CopyTextWriter writer = new CopyTextWriter(CHUNK_CHARS + CHUNK_CHARS / 4);
+        try (rows) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                encoder.encode(iterator.next(), writer);
+                writer.endRow();
+                if (writer.length() >= CHUNK_CHARS) {
+                    chunks.put(writer.drain().getBytes(UTF_8));
+                }
+            }
+            if (writer.length() > 0) {
+                chunks.put(writer.drain().getBytes(UTF_8));
+            }
+            chunks.put(END_OF_DATA);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            failure.set(e);
+            try {
+                chunks.put(END_OF_DATA);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void restoreInterrupt(Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A table, the columns rows are written to and how a row is encoded.
+     */
+    public record Target<T>(String table, String columns, RowEncoder<T> encoder) {
+    }
+
+    @FunctionalInterface
+    public interface RowEncoder<T> {
+        void encode(T row, CopyTextWriter writer);
+    }
+}
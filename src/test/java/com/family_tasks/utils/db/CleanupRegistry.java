@@ -0,0 +1,208 @@
+package com.family_tasks.utils.db;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Remembers the ids of users, groups and tasks created by a test and deletes only those rows afterwards,
+ * together with the executor links and rewards that depend on them.
+ * <p>
+ * Each test gets its own registry bound to the thread running it, so tests executed concurrently only clean
+ * up their own rows. Code running on other threads on behalf of a test has to bind the test's registry with
+ * {@link #bind(CleanupRegistry)}. Rows created outside of a test are tracked by a shared fallback registry.
+ */
+public final class CleanupRegistry {
+
+    private static final CleanupRegistry SHARED = new CleanupRegistry();
+    private static final ThreadLocal<CleanupRegistry> CURRENT = new ThreadLocal<>();
+
+    private static volatile List<ForeignKey> rewardsForeignKeys;
+
+    private final Set<String> taskIds = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> userIds = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> groupIds = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+
+    public static CleanupRegistry current() {
+        CleanupRegistry registry = CURRENT.get();
+        return registry == null ? SHARED : registry;
+    }
+
+    /**
+     * Binds a new registry to the calling thread for the duration of a test.
+     */
+    public static CleanupRegistry begin() {
+        CleanupRegistry registry = new CleanupRegistry();
+        CURRENT.set(registry);
+        return registry;
+    }
+
+    /**
+     * Binds {@code registry} to the calling thread, or unbinds the current one when it's {@code null}.
+     */
+    public static void bind(CleanupRegistry registry) {
+        if (registry == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(registry);
+        }
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void trackTask(String taskId) {
+        if (taskId != null) {
+            taskIds.add(taskId);
+        }
+    }
+
+    public void trackUser(Integer userId) {
+        if (userId != null) {
+            userIds.add(userId);
+        }
+    }
+
+    public void trackGroup(Integer groupId) {
+        if (groupId != null) {
+            groupIds.add(groupId);
+        }
+    }
+
+    /**
+     * Registers fixture work still running on other threads, so the rows it creates are waited for before
+     * they are cleaned up or discarded.
+     */
+    public void trackPending(CompletableFuture<?> future) {
+        pending.add(future);
+        future.whenComplete((result, error) -> pending.remove(future));
+    }
+
+    /**
+     * Waits for the registered fixture work to finish, ignoring its failures.
+     */
+    public void awaitPending() {
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .exceptionally(error -> null)
+                .join();
+    }
+
+    /**
+     * Forgets the tracked ids without deleting anything, for when the DB is reset by other means.
+     */
+    public void discard() {
+        awaitPending();
+        taskIds.clear();
+        userIds.clear();
+        groupIds.clear();
+    }
+
+    public boolean isEmpty() {
+        return taskIds.isEmpty() && userIds.isEmpty() && groupIds.isEmpty();
+    }
+
+    /**
+     * Deletes the tracked rows in dependency order within one transaction, sending all statements as one batch.
+     * Tasks reported by and groups owned by tracked users are removed too, so rows created by the application
+     * on behalf of a tracked user don't survive the test.
+     */
+    public void cleanUp() {
+        awaitPending();
+        if (isEmpty()) {
+            return;
+        }
+        Set<String> tasks = Set.copyOf(taskIds);
+        Set<Integer> users = Set.copyOf(userIds);
+        Set<Integer> groups = Set.copyOf(groupIds);
+        taskIds.removeAll(tasks);
+        userIds.removeAll(users);
+        groupIds.removeAll(groups);
+
+        String userArray = intArray(users);
+        String taskScope = "SELECT id FROM tasks WHERE id = ANY(" + textArray(tasks) + ") OR reporter_id = ANY(" + userArray + ")";
+        String groupScope = "SELECT id FROM groups WHERE id = ANY(" + intArray(groups) + ") OR owner_id = ANY(" + userArray + ")";
+
+        try (Connection conn = ConnectionPool.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.addBatch("DELETE FROM executors_tasks WHERE task_id IN (" + taskScope + ") OR user_id = ANY(" + userArray + ")");
+                String rewardsFilter = rewardsFilter(conn, taskScope, groupScope, userArray);
+                if (rewardsFilter != null) {
+                    stmt.addBatch("DELETE FROM rewards WHERE " + rewardsFilter);
+                }
+                stmt.addBatch("DELETE FROM tasks WHERE id IN (" + taskScope + ")");
+                stmt.addBatch("DELETE FROM groups WHERE id IN (" + groupScope + ")");
+                stmt.addBatch("DELETE FROM users WHERE id = ANY(" + userArray + ")");
+                stmt.executeBatch();
+                conn.commit();
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to clean up tracked rows: tasks=" + tasks + ", users=" + users + ", groups=" + groups, e);
+        }
+    }
+
+    private static String rewardsFilter(Connection conn, String taskScope, String groupScope, String userArray) throws Exception {
+        List<String> conditions = new ArrayList<>();
+        for (ForeignKey fk : getRewardsForeignKeys(conn)) {
+            switch (fk.referencedTable()) {
+                case "tasks" -> conditions.add(fk.column() + " IN (" + taskScope + ")");
+                case "groups" -> conditions.add(fk.column() + " IN (" + groupScope + ")");
+                case "users" -> conditions.add(fk.column() + " = ANY(" + userArray + ")");
+                default -> {
+                }
+            }
+        }
+        return conditions.isEmpty() ? null : String.join(" OR ", conditions);
+    }
+
+    /**
+     * The columns {@code rewards} uses to reference the other tables, read once from the catalog.
+     */
+    static List<ForeignKey> getRewardsForeignKeys(Connection conn) throws Exception {
+        List<ForeignKey> keys = rewardsForeignKeys;
+        if (keys != null) {
+            return keys;
+        }
+        String sql = """
+                SELECT a.attname, c.confrelid::regclass::text
+                FROM pg_constraint c
+                JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+                WHERE c.contype = 'f' AND c.conrelid = 'rewards'::regclass
+                """;
+        List<ForeignKey> found = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                String table = rs.getString(2);
+                table = table.substring(table.lastIndexOf('.') + 1).replace("\"", "");
+                found.add(new ForeignKey(rs.getString(1), table));
+            }
+        }
+        rewardsForeignKeys = List.copyOf(found);
+        return rewardsForeignKeys;
+    }
+
+    private static String intArray(Collection<Integer> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",", "ARRAY[", "]::int[]"));
+    }
+
+    private static String textArray(Collection<String> ids) {
+        return ids.stream()
+                .map(id -> "'" + id.replace("'", "''") + "'")
+                .collect(Collectors.joining(",", "ARRAY[", "]::text[]"));
+    }
+
+    record ForeignKey(String column, String referencedTable) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.family_tasks.utils.db;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * JVM-wide pool of connections to the task-tracker DB. It is created on first use and closed on JVM shutdown.
+ */
+public final class ConnectionPool {
+
+    private static final String POOL_NAME = "task-tracker-autotests";
+    private static final PoolMetrics METRICS = new PoolMetrics();
+
+    private ConnectionPool() {
+    }
+
+    public static Connection getConnection() throws SQLException {
+        return Holder.DATA_SOURCE.getConnection();
+    }
+
+    /**
+     * Closes idle connections and retires the borrowed ones when they are returned, e.g. after the database
+     * they point to was dropped and recreated.
+     */
+    public static void evictConnections() {
+        Holder.DATA_SOURCE.getHikariPoolMXBean().softEvictConnections();
+    }
+
+    public static PoolMetrics.Snapshot metrics() {
+        return METRICS.snapshot();
+    }
+
+    private static HikariDataSource createDataSource() {
+        DbConfig config = DbConfig.get();
+
+        HikariConfig hikari = new HikariConfig();
+        hikari.setPoolName(POOL_NAME);
+        hikari.setJdbcUrl(config.getJdbcUrl());
+        hikari.setUsername(config.getUser());
+        hikari.setPassword(config.getPassword());
+        hikari.setMaximumPoolSize(config.getPoolSize());
+        hikari.setMinimumIdle(1);
+        hikari.setConnectionTimeout(config.getConnectionTimeoutMs());
+        hikari.setLeakDetectionThreshold(config.getLeakDetectionThresholdMs());
+        hikari.setMetricsTrackerFactory(METRICS);
+
+        // pgjdbc caches prepared statements per physical connection, so they survive returning it to the pool
+        hikari.addDataSourceProperty("preparedStatementCacheQueries", config.getStatementCacheQueries());
+        hikari.addDataSourceProperty("preparedStatementCacheSizeMiB", config.getStatementCacheSizeMiB());
+        if (config.getPrepareThreshold() != null) {
+            hikari.addDataSourceProperty("prepareThreshold", config.getPrepareThreshold());
+        }
+
+        if (config.isSchemaPerWorker()) {
+            WorkerSchema.create(config.getWorkerSchema());
+            hikari.setSchema(config.getWorkerSchema());
+        }
+
+        HikariDataSource dataSource = new HikariDataSource(hikari);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (config.isPoolMetricsLogged()) {
+                System.out.println("DB pool metrics: " + METRICS.snapshot());
+            }
+            dataSource.close();
+        }, POOL_NAME + "-shutdown"));
+        return dataSource;
+    }
+
+    private static final class Holder {
+        private static final HikariDataSource DATA_SOURCE = createDataSource();
+    }
+}
@@ -0,0 +1,123 @@
+package com.family_tasks.utils.db;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the task-tracker tables as binary COPY dumps in a temporary directory, deleted when the JVM exits. Restoring truncates the tables,
+ * reloads the dumps with FK triggers disabled for the transaction and puts the sequences back to their saved
+ * values, so generated ids continue exactly as they did after the capture.
+ */
+public class CopyDatabaseSnapshot implements DatabaseSnapshot {
+
+    private static final List<String> TABLES = List.of("users", "groups", "tasks", "executors_tasks", "rewards");
+
+    private final Path directory;
+    private final List<SequenceValue> sequences = new ArrayList<>();
+
+    public CopyDatabaseSnapshot() {
+        try {
+            this.directory = Files.createTempDirectory("task-tracker-snapshot");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create a snapshot directory", e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::deleteDirectory, "delete-" + directory.getFileName()));
+    }
+
+    @Override
+    public void capture() {
+        try (Connection conn = ConnectionPool.getConnection()) {
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+
+            CopyManager copyManager = conn.unwrap(PGConnection.class).getCopyAPI();
+            for (String table : TABLES) {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dumpFile(table)))) {
+                    copyManager.copyOut("COPY " + table + " TO STDOUT (FORMAT binary)", out);
+                }
+            }
+
+            sequences.clear();
+            String sql = "SELECT schemaname, sequencename, last_value FROM pg_sequences WHERE schemaname = current_schema()";
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(sql)) {
+                while (rs.next()) {
+                    long lastValue = rs.getLong(3);
+                    boolean isCalled = !rs.wasNull();
+                    sequences.add(new SequenceValue(rs.getString(1) + "." + rs.getString(2), isCalled ? lastValue : 1, isCalled));
+                }
+            }
+            conn.commit();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to capture a DB snapshot", e);
+        }
+    }
+
+    @Override
+    public void restore() {
+        try (Connection conn = ConnectionPool.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("SET LOCAL session_replication_role = replica");
+                stmt.execute("TRUNCATE " + String.join(", ", TABLES) + " RESTART IDENTITY CASCADE");
+
+                CopyManager copyManager = conn.unwrap(PGConnection.class).getCopyAPI();
+                for (String table : TABLES) {
+                    try (InputStream in = new BufferedInputStream(Files.newInputStream(dumpFile(table)))) {
+                        copyManager.copyIn("COPY " + table + " FROM STDIN (FORMAT binary)", in);
+                    }
+                }
+
+                try (PreparedStatement setval = conn.prepareStatement("SELECT setval(?::regclass, ?, ?)")) {
+                    for (SequenceValue sequence : sequences) {
+                        setval.setString(1, sequence.name());
+                        setval.setLong(2, sequence.lastValue());
+                        setval.setBoolean(3, sequence.isCalled());
+                        setval.addBatch();
+                    }
+                    setval.executeBatch();
+                }
+                conn.commit();
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to restore the DB snapshot", e);
+        }
+    }
+
+    @Override
+    public boolean exists() {
+        return TABLES.stream().allMatch(table -> Files.exists(dumpFile(table)));
+    }
+
+    private Path dumpFile(String table) {
+        return directory.resolve(table + ".bin");
+    }
+
+    private void deleteDirectory() {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to delete the snapshot directory " + directory + ": " + e);
+        }
+    }
+
+    private record SequenceValue(String name, long lastValue, boolean isCalled) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.family_tasks.utils.db;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Encodes rows in the PostgreSQL COPY text format: tab separated columns, {@code \N} for NULL,
+ * one row per line.
+ */
+public final class CopyTextWriter {
+
+    private final StringBuilder buffer;
+    private boolean rowStarted;
+
+    public CopyTextWriter(int initialCapacity) {
+        this.buffer = new StringBuilder(initialCapacity);
+    }
+
+    public CopyTextWriter add(String value) {
+        startColumn();
+        if (value == null) {
+            buffer.append("\\N");
+            return this;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> buffer.append(c);
+            }
+        }
+        return this;
+    }
+
+    public CopyTextWriter add(Integer value) {
+        startColumn();
+        if (value == null) {
+            buffer.append("\\N");
+        } else {
+            buffer.append(value.intValue());
+        }
+        return this;
+    }
+
+    public CopyTextWriter add(Boolean value) {
+        startColumn();
+        buffer.append(value == null ? "\\N" : value ? "t" : "f");
+        return this;
+    }
+
+    public CopyTextWriter add(LocalDateTime value) {
+        startColumn();
+        buffer.append(value == null ? "\\N" : value.toString());
+        return this;
+    }
+
+    public CopyTextWriter add(LocalDate value) {
+        startColumn();
+        buffer.append(value == null ? "\\N" : value.toString());
+        return this;
+    }
+
+    public void endRow() {
+        buffer.append('\n');
+        rowStarted = false;
+    }
+
+    public int length() {
+        return buffer.length();
+    }
+
+    /**
+     * Returns everything written since the previous call and resets the buffer.
+     */
+    public String drain() {
+        String text = buffer.toString();
+        buffer.setLength(0);
+        return text;
+    }
+
+    private void startColumn() {
+        if (rowStarted) {
+            buffer.append('\t');
+        }
+        rowStarted = true;
+    }
+}
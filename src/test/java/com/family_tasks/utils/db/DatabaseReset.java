@@ -0,0 +1,101 @@
+package com.family_tasks.utils.db;
+
+/**
+ * Puts the DB back into a known state between tests, as selected by {@code DB_RESET_STRATEGY} and
+ * {@code DB_RESET_SCOPE}.
+ * <p>
+ * With a snapshot strategy the state at the first {@link #beforeAll()} of the run (or after an explicit
+ * {@link #snapshot()}, e.g. once a benchmark suite has seeded its dataset) is what every test or class starts from.
+ */
+public final class DatabaseReset {
+
+    public enum Strategy {
+        /**
+         * Delete the rows tracked by {@link CleanupRegistry}.
+         */
+        TRACKED,
+        /**
+         * Truncate the tables and reload them from a COPY dump.
+         */
+        TRUNCATE_RELOAD,
+        /**
+         * Recreate the database from a template database.
+         */
+        TEMPLATE
+    }
+
+    public enum Scope {
+        TEST,
+        CLASS
+    }
+
+    private static final Strategy STRATEGY = DbConfig.get().getResetStrategy();
+    private static final Scope SCOPE = DbConfig.get().getResetScope();
+
+    private static DatabaseSnapshot snapshot;
+
+    private DatabaseReset() {
+    }
+
+    public static synchronized void beforeAll() {
+        if (STRATEGY == Strategy.TRACKED || snapshot != null) {
+            return;
+        }
+        if (STRATEGY == Strategy.TEMPLATE && DbConfig.get().isSchemaPerWorker()) {
+            throw new IllegalStateException("DB_RESET_STRATEGY=TEMPLATE recreates the whole database and can't be used with DB_ISOLATION=SCHEMA");
+        }
+        DatabaseSnapshot created = newSnapshot();
+        if (DbConfig.get().isSnapshotReused() && created.exists()) {
+            created.restore();
+        } else {
+            created.capture();
+        }
+        snapshot = created;
+    }
+
+    /**
+     * With {@link Strategy#TRACKED} every test only deletes its own rows, so tests may run concurrently.
+     * Snapshot strategies reset the whole DB and require sequential execution.
+     */
+    public static void afterEach() {
+        if (STRATEGY == Strategy.TRACKED) {
+            CleanupRegistry.current().cleanUp();
+            return;
+        }
+        CleanupRegistry.current().discard();
+        if (SCOPE == Scope.TEST) {
+            synchronized (DatabaseReset.class) {
+                restore();
+            }
+        }
+    }
+
+    public static synchronized void afterAll() {
+        if (STRATEGY != Strategy.TRACKED && SCOPE == Scope.CLASS) {
+            restore();
+        }
+    }
+
+    /**
+     * Captures the current DB state as the one restored from now on. Does nothing with {@link Strategy#TRACKED}.
+     */
+    public static synchronized void snapshot() {
+        if (STRATEGY == Strategy.TRACKED) {
+            return;
+        }
+        if (snapshot == null) {
+            snapshot = newSnapshot();
+        }
+        snapshot.capture();
+    }
+
+    private static void restore() {
+        if (snapshot != null) {
+            snapshot.restore();
+        }
+    }
+
+    private static DatabaseSnapshot newSnapshot() {
+        return STRATEGY == Strategy.TEMPLATE ? new TemplateDatabaseSnapshot() : new CopyDatabaseSnapshot();
+    }
+}
@@ -0,0 +1,22 @@
+package com.family_tasks.utils.db;
+
+/**
+ * A saved state of the task-tracker tables that can be restored any number of times.
+ */
+public interface DatabaseSnapshot {
+
+    /**
+     * Saves the current state, replacing a previously captured one.
+     */
+    void capture();
+
+    /**
+     * Returns the DB to the captured state.
+     */
+    void restore();
+
+    /**
+     * Whether a snapshot left by a previous run is available to {@link #restore()}.
+     */
+    boolean exists();
+}
@@ -0,0 +1,162 @@
+package com.family_tasks.utils.db;
+
+import com.family_tasks.utils.TestConfig;
+
+/**
+ * DB settings from {@code config.properties}, read through {@link TestConfig}. Any key can be overridden with a
+ * JVM system property of the same name, e.g. {@code -DDB_POOL_SIZE=20}.
+ */
+public final class DbConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final long DEFAULT_CONNECTION_TIMEOUT_MS = 10_000;
+    private static final long DEFAULT_LEAK_DETECTION_THRESHOLD_MS = 30_000;
+    private static final int DEFAULT_BATCH_CHUNK_SIZE = 500;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final int DEFAULT_STATEMENT_CACHE_QUERIES = 256;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE_MIB = 5;
+
+    private final TestConfig config;
+
+    private DbConfig(TestConfig config) {
+        this.config = config;
+    }
+
+    public static DbConfig get() {
+        return Holder.INSTANCE;
+    }
+
+    public String getJdbcUrl() {
+        return getRequired("POSTGRES_URL").replace("db:5432", "localhost:5432");
+    }
+
+    public String getDatabaseName() {
+        String url = getJdbcUrl();
+        int end = url.indexOf('?') < 0 ? url.length() : url.indexOf('?');
+        return url.substring(url.lastIndexOf('/', end) + 1, end);
+    }
+
+    /**
+     * URL of the {@code postgres} maintenance database on the same server, used to create and drop databases.
+     */
+    public String getMaintenanceJdbcUrl() {
+        String url = getJdbcUrl();
+        int end = url.indexOf('?') < 0 ? url.length() : url.indexOf('?');
+        return url.substring(0, url.lastIndexOf('/', end) + 1) + "postgres" + url.substring(end);
+    }
+
+    public String getUser() {
+        return getRequired("POSTGRES_USER");
+    }
+
+    public String getPassword() {
+        return getRequired("POSTGRES_PASSWORD");
+    }
+
+    public int getPoolSize() {
+        return getInt("DB_POOL_SIZE", DEFAULT_POOL_SIZE);
+    }
+
+    public long getConnectionTimeoutMs() {
+        return getLong("DB_POOL_CONNECTION_TIMEOUT_MS", DEFAULT_CONNECTION_TIMEOUT_MS);
+    }
+
+    /**
+     * A connection held longer than this is reported as a possible leak. {@code 0} disables the check.
+     */
+    public long getLeakDetectionThresholdMs() {
+        return getLong("DB_POOL_LEAK_DETECTION_MS", DEFAULT_LEAK_DETECTION_THRESHOLD_MS);
+    }
+
+    /**
+     * Max number of rows sent in one multi-row INSERT by the batch fixture helpers.
+     */
+    public int getBatchChunkSize() {
+        return getInt("DB_BATCH_CHUNK_SIZE", DEFAULT_BATCH_CHUNK_SIZE);
+    }
+
+    /**
+     * Whether each test JVM works in its own schema, see {@link WorkerSchema}.
+     */
+    public boolean isSchemaPerWorker() {
+        return "SCHEMA".equalsIgnoreCase(get("DB_ISOLATION", "NONE").trim());
+    }
+
+    /**
+     * Number of the surefire fork running this JVM, starting from 1.
+     */
+    public int getWorkerId() {
+        return getInt("DB_WORKER_ID", 1);
+    }
+
+    public String getWorkerSchema() {
+        return "worker_" + getWorkerId();
+    }
+
+    public DatabaseReset.Strategy getResetStrategy() {
+        return DatabaseReset.Strategy.valueOf(get("DB_RESET_STRATEGY", DatabaseReset.Strategy.TRACKED.name()).trim());
+    }
+
+    public DatabaseReset.Scope getResetScope() {
+        return DatabaseReset.Scope.valueOf(get("DB_RESET_SCOPE", DatabaseReset.Scope.TEST.name()).trim());
+    }
+
+    /**
+     * Whether a snapshot left by a previous run is restored instead of capturing the current DB state.
+     */
+    public boolean isSnapshotReused() {
+        return Boolean.parseBoolean(get("DB_SNAPSHOT_REUSE", "false"));
+    }
+
+    /**
+     * Number of rows fetched per round trip by the streaming queries.
+     */
+    public int getFetchSize() {
+        return getInt("DB_FETCH_SIZE", DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Number of executions of a prepared statement after which the driver switches to a named server-side
+     * statement that is parsed and planned once per connection. {@code null} (not set) keeps the driver default,
+     * {@code 1} prepares on the first execution and {@code 0} disables server-side prepares.
+     */
+    public Integer getPrepareThreshold() {
+        String value = get("DB_PREPARE_THRESHOLD", null);
+        return value == null || value.isBlank() ? null : Integer.valueOf(value.trim());
+    }
+
+    /**
+     * Max number of prepared statements the driver keeps per connection, keyed by SQL text.
+     */
+    public int getStatementCacheQueries() {
+        return getInt("DB_STATEMENT_CACHE_QUERIES", DEFAULT_STATEMENT_CACHE_QUERIES);
+    }
+
+    public int getStatementCacheSizeMiB() {
+        return getInt("DB_STATEMENT_CACHE_SIZE_MIB", DEFAULT_STATEMENT_CACHE_SIZE_MIB);
+    }
+
+    public boolean isPoolMetricsLogged() {
+        return Boolean.parseBoolean(get("DB_POOL_METRICS_LOG", "false"));
+    }
+
+    public String get(String key, String defaultValue) {
+        return config.get(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return config.getInt(key, defaultValue);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return config.getLong(key, defaultValue);
+    }
+
+    private String getRequired(String key) {
+        return config.getRequired(key);
+    }
+
+    private static final class Holder {
+        private static final DbConfig INSTANCE = new DbConfig(TestConfig.get());
+    }
+}
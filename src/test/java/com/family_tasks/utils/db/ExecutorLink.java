@@ -0,0 +1,7 @@
+package com.family_tasks.utils.db;
+
+/**
+ * A row of {@code executors_tasks}: the user with {@code userId} is an executor of the task with {@code taskId}.
+ */
+public record ExecutorLink(String taskId, int userId) {
+}
@@ -0,0 +1,88 @@
+package com.family_tasks.utils.db;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects acquire latency, usage time and timeouts reported by the pool, plus its live active/idle counts.
+ */
+public final class PoolMetrics implements MetricsTrackerFactory {
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final LongAdder usageMillis = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder created = new LongAdder();
+
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                created.increment();
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireCount.increment();
+                acquireNanos.add(elapsedAcquiredNanos);
+                maxAcquireNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageMillis.add(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    public Snapshot snapshot() {
+        PoolStats stats = poolStats;
+        long acquires = acquireCount.sum();
+        return new Snapshot(
+                stats == null ? 0 : stats.getActiveConnections(),
+                stats == null ? 0 : stats.getIdleConnections(),
+                stats == null ? 0 : stats.getTotalConnections(),
+                stats == null ? 0 : stats.getPendingThreads(),
+                created.sum(),
+                acquires,
+                Duration.ofNanos(acquires == 0 ? 0 : acquireNanos.sum() / acquires),
+                Duration.ofNanos(maxAcquireNanos.get()),
+                Duration.ofMillis(usageMillis.sum()),
+                timeouts.sum());
+    }
+
+    public record Snapshot(int active,
+                           int idle,
+                           int total,
+                           int pending,
+                           long connectionsCreated,
+                           long acquires,
+                           Duration avgAcquire,
+                           Duration maxAcquire,
+                           Duration totalUsage,
+                           long timeouts) {
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "active=%d idle=%d total=%d pending=%d created=%d acquires=%d avgAcquire=%dus maxAcquire=%dus usage=%dms timeouts=%d",
+                    active, idle, total, pending, connectionsCreated, acquires,
+                    avgAcquire.toNanos() / 1_000, maxAcquire.toNanos() / 1_000, totalUsage.toMillis(), timeouts);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.family_tasks.utils.db;
+
+import com.family_tasks.dto.group.GroupEntity;
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.dto.user.UserEntity;
+import com.family_tasks.utils.TestDataBaseUtils.RowMapper;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Row mappers for the task-tracker tables, to be used with the {@code SELECT_*} queries below or any query
+ * returning the same columns.
+ */
+public final class RowMappers {
+
+    public static final String SELECT_TASKS = """
+            SELECT id, name, description, priority, status, reporter_id,
+                   confidential, rewards_points, deadline, created_at, updated_at
+            FROM tasks""";
+    public static final String SELECT_USERS = "SELECT id, name, admin, group_id, created_at, updated_at FROM users";
+    public static final String SELECT_GROUPS = "SELECT id, owner_id, created_at, updated_at, deleted_at FROM groups";
+
+    public static final RowMapper<TaskEntity> TASK = rs -> TaskEntity.builder()
+            .taskId(rs.getString("id"))
+            .name(rs.getString("name"))
+            .description(rs.getString("description"))
+            .priority(rs.getString("priority"))
+            .status(rs.getString("status"))
+            .reporterId(getInteger(rs, "reporter_id"))
+            .confidential(rs.getBoolean("confidential"))
+            .rewardsPoints(getInteger(rs, "rewards_points"))
+            .deadline(getLocalDate(rs, "deadline"))
+            .createdAt(getLocalDateTime(rs, "created_at"))
+            .updatedAt(getLocalDateTime(rs, "updated_at"))
+            .build();
+
+    public static final RowMapper<UserEntity> USER = rs -> UserEntity.builder()
+            .id(rs.getInt("id"))
+            .name(rs.getString("name"))
+            .admin(rs.getBoolean("admin"))
+            .groupId(getInteger(rs, "group_id"))
+            .createdAt(getLocalDateTime(rs, "created_at"))
+            .updatedAt(getLocalDateTime(rs, "updated_at"))
+            .build();
+
+    public static final RowMapper<GroupEntity> GROUP = rs -> GroupEntity.builder()
+            .groupId(rs.getInt("id"))
+            .ownerId(getInteger(rs, "owner_id"))
+            .createdAt(getLocalDateTime(rs, "created_at"))
+            .updatedAt(getLocalDateTime(rs, "updated_at"))
+            .deletedAt(getLocalDateTime(rs, "deleted_at"))
+            .build();
+
+    private RowMappers() {
+    }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDate getLocalDate(ResultSet rs, String column) throws SQLException {
+        Date value = rs.getDate(column);
+        return value == null ? null : value.toLocalDate();
+    }
+
+    private static LocalDateTime getLocalDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value == null ? null : value.toLocalDateTime();
+    }
+}
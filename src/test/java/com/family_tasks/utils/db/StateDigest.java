@@ -0,0 +1,229 @@
+package com.family_tasks.utils.db;
+
+import com.family_tasks.dto.group.GroupEntity;
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.dto.user.UserEntity;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Digests of the task-tracker tables computed inside Postgres, so a test can check that an API call changed
+ * only what it should without reading the rows back:
+ * <pre>{@code
+ * StateDigest before = StateDigest.capture();
+ * // call the API
+ * assertThat(StateDigest.capture().changedTables(before)).containsOnly("tasks");
+ * }</pre>
+ * Each row is hashed as the first 64 bits of the MD5 of its canonical text, and the hashes are summed, so the
+ * digest doesn't depend on row order. The {@code of*} methods compute the same digest from entities, e.g. to
+ * compare the rows of a group with the expected ones. {@code rewards} is hashed by its whole row text and
+ * can only be compared between captures.
+ */
+public record StateDigest(Map<String, TableDigest> tables) {
+
+    private static final String NULL = "\\N";
+    private static final String SEPARATOR = "\u001f";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+
+    private static final List<Column> TASK_COLUMNS = List.of(
+            Column.text("id"), Column.text("name"), Column.text("description"), Column.text("priority"),
+            Column.text("status"), Column.text("reporter_id"), Column.text("confidential"),
+            Column.text("rewards_points"), Column.date("deadline"), Column.timestamp("created_at"),
+            Column.timestamp("updated_at"));
+    private static final List<Column> USER_COLUMNS = List.of(
+            Column.text("id"), Column.text("name"), Column.text("admin"), Column.text("group_id"),
+            Column.timestamp("created_at"), Column.timestamp("updated_at"));
+    private static final List<Column> GROUP_COLUMNS = List.of(
+            Column.text("id"), Column.text("owner_id"), Column.timestamp("created_at"),
+            Column.timestamp("updated_at"), Column.timestamp("deleted_at"));
+    private static final List<Column> EXECUTOR_COLUMNS = List.of(
+            Column.text("task_id"), Column.text("user_id"));
+
+    /**
+     * Digests of all rows of every table.
+     */
+    public static StateDigest capture() {
+        return capture(null);
+    }
+
+    /**
+     * Digests of the rows belonging to a group: the group, its members, the tasks they reported, the executor
+     * links of those tasks or members, and the rewards referencing any of them.
+     */
+    public static StateDigest captureGroup(int groupId) {
+        return capture(groupId);
+    }
+
+    public TableDigest table(String table) {
+        return tables.getOrDefault(table, TableDigest.empty(table));
+    }
+
+    /**
+     * Names of the tables whose digest differs from {@code before}.
+     */
+    public Set<String> changedTables(StateDigest before) {
+        Set<String> names = new TreeSet<>(tables.keySet());
+        names.addAll(before.tables().keySet());
+        return names.stream()
+                .filter(name -> !table(name).equals(before.table(name)))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    public static TableDigest ofTasks(Collection<TaskEntity> tasks) {
+        return digest("tasks", tasks, task -> Arrays.asList(task.getTaskId(), task.getName(), task.getDescription(),
+                task.getPriority(), task.getStatus(), task.getReporterId(), task.isConfidential(),
+                task.getRewardsPoints(), task.getDeadline(), task.getCreatedAt(), task.getUpdatedAt()));
+    }
+
+    public static TableDigest ofUsers(Collection<UserEntity> users) {
+        return digest("users", users, user -> Arrays.asList(user.getId(), user.getName(), user.getAdmin(),
+                user.getGroupId(), user.getCreatedAt(), user.getUpdatedAt()));
+    }
+
+    public static TableDigest ofGroups(Collection<GroupEntity> groups) {
+        return digest("groups", groups, group -> Arrays.asList(group.getGroupId(), group.getOwnerId(),
+                group.getCreatedAt(), group.getUpdatedAt(), group.getDeletedAt()));
+    }
+
+    public static TableDigest ofExecutors(Collection<ExecutorLink> links) {
+        return digest("executors_tasks", links, link -> Arrays.asList(link.taskId(), link.userId()));
+    }
+
+    private static StateDigest capture(Integer groupId) {
+        try (Connection conn = ConnectionPool.getConnection();
+             Statement stmt = conn.createStatement()) {
+            List<String> queries = new ArrayList<>();
+            if (groupId == null) {
+                queries.add(aggregate("tasks", rowHash(TASK_COLUMNS), null));
+                queries.add(aggregate("users", rowHash(USER_COLUMNS), null));
+                queries.add(aggregate("groups", rowHash(GROUP_COLUMNS), null));
+                queries.add(aggregate("executors_tasks", rowHash(EXECUTOR_COLUMNS), null));
+                queries.add(aggregate("rewards", wholeRowHash(), null));
+            } else {
+                String members = "SELECT id FROM users WHERE group_id = " + groupId;
+                String tasks = "SELECT id FROM tasks WHERE reporter_id IN (" + members + ")";
+                queries.add(aggregate("tasks", rowHash(TASK_COLUMNS), "reporter_id IN (" + members + ")"));
+                queries.add(aggregate("users", rowHash(USER_COLUMNS), "group_id = " + groupId));
+                queries.add(aggregate("groups", rowHash(GROUP_COLUMNS), "id = " + groupId));
+                queries.add(aggregate("executors_tasks", rowHash(EXECUTOR_COLUMNS),
+                        "user_id IN (" + members + ") OR task_id IN (" + tasks + ")"));
+                String rewardsScope = rewardsScope(conn, groupId, members, tasks);
+                if (rewardsScope != null) {
+                    queries.add(aggregate("rewards", wholeRowHash(), rewardsScope));
+                }
+            }
+
+            Map<String, TableDigest> digests = new LinkedHashMap<>();
+            try (ResultSet rs = stmt.executeQuery(String.join("\nUNION ALL\n", queries))) {
+                while (rs.next()) {
+                    String table = rs.getString(1);
+                    digests.put(table, new TableDigest(table, rs.getLong(2), rs.getBigDecimal(3).toBigIntegerExact()));
+                }
+            }
+            return new StateDigest(Collections.unmodifiableMap(digests));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to compute DB state digest" + (groupId == null ? "" : " of group " + groupId), e);
+        }
+    }
+
+    private static String rewardsScope(Connection conn, int groupId, String members, String tasks) throws Exception {
+        List<String> conditions = new ArrayList<>();
+        for (CleanupRegistry.ForeignKey fk : CleanupRegistry.getRewardsForeignKeys(conn)) {
+            switch (fk.referencedTable()) {
+                case "tasks" -> conditions.add(fk.column() + " IN (" + tasks + ")");
+                case "groups" -> conditions.add(fk.column() + " = " + groupId);
+                case "users" -> conditions.add(fk.column() + " IN (" + members + ")");
+                default -> {
+                }
+            }
+        }
+        return conditions.isEmpty() ? null : String.join(" OR ", conditions);
+    }
+
+    private static String aggregate(String table, String rowHash, String where) {
+        return "SELECT '" + table + "', count(*), coalesce(sum(" + rowHash + "), 0) FROM " + table + " r"
+                + (where == null ? "" : " WHERE " + where);
+    }
+
+    private static String rowHash(List<Column> columns) {
+        String text = columns.stream()
+                .map(column -> "coalesce(" + column.sql() + ", '" + NULL + "')")
+                .collect(Collectors.joining(", ", "concat_ws(E'\\x1f', ", ")"));
+        return hashOf(text);
+    }
+
+    private static String wholeRowHash() {
+        return hashOf("r::text");
+    }
+
+    private static String hashOf(String text) {
+        return "('x' || left(md5(" + text + "), 16))::bit(64)::bigint";
+    }
+
+    private static <T> TableDigest digest(String table, Collection<T> rows, Function<T, List<Object>> values) {
+        MessageDigest md5 = md5();
+        BigInteger sum = BigInteger.ZERO;
+        for (T row : rows) {
+            String text = values.apply(row).stream()
+                    .map(StateDigest::canonical)
+                    .collect(Collectors.joining(SEPARATOR));
+            long hash = ByteBuffer.wrap(md5.digest(text.getBytes(UTF_8))).getLong();
+            sum = sum.add(BigInteger.valueOf(hash));
+        }
+        return new TableDigest(table, rows.size(), sum);
+    }
+
+    /**
+     * Formats a value the way the SQL side does. Postgres keeps microseconds, rounding the rest.
+     */
+    private static String canonical(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return TIMESTAMP_FORMAT.format(dateTime.plusNanos(500).truncatedTo(ChronoUnit.MICROS));
+        }
+        if (value instanceof LocalDate date) {
+            return date.toString();
+        }
+        return value.toString();
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 isn't available", e);
+        }
+    }
+
+    private record Column(String sql) {
+
+        static Column text(String name) {
+            return new Column(name + "::text");
+        }
+
+        static Column date(String name) {
+            return new Column("to_char(" + name + ", 'YYYY-MM-DD')");
+        }
+
+        static Column timestamp(String name) {
+            return new Column("to_char(" + name + ", 'YYYY-MM-DD\"T\"HH24:MI:SS.US')");
+        }
+    }
+}
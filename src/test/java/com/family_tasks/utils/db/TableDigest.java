@@ -0,0 +1,13 @@
+package com.family_tasks.utils.db;
+
+import java.math.BigInteger;
+
+/**
+ * Order-independent digest of a set of rows: their count and the sum of a 64-bit hash of each row.
+ */
+public record TableDigest(String table, long rows, BigInteger hash) {
+
+    public static TableDigest empty(String table) {
+        return new TableDigest(table, 0, BigInteger.ZERO);
+    }
+}
@@ -0,0 +1,94 @@
+package com.family_tasks.utils.db;
+
+import java.sql.*;
+
+/**
+ * Keeps the whole task-tracker database as a template database on the same server. Restoring drops the
+ * database and recreates it from the template, which is a file-level copy and doesn't depend on row counts.
+ * <p>
+ * Both operations need the database free of sessions, so the application's connections are terminated and
+ * reestablished by its pool on the next request.
+ */
+public class TemplateDatabaseSnapshot implements DatabaseSnapshot {
+
+    private static final int FILE_COPY_MIN_MAJOR_VERSION = 15;
+
+    private final String database;
+    private final String snapshot;
+
+    public TemplateDatabaseSnapshot() {
+        this.database = DbConfig.get().getDatabaseName();
+        this.snapshot = database + "_snapshot";
+    }
+
+    @Override
+    public void capture() {
+        try (Connection conn = getMaintenanceConnection();
+             Statement stmt = conn.createStatement()) {
+            ConnectionPool.evictConnections();
+            stmt.execute("ALTER DATABASE " + quote(database) + " ALLOW_CONNECTIONS false");
+            try {
+                terminateSessions(conn, database);
+                stmt.execute("DROP DATABASE IF EXISTS " + quote(snapshot));
+                stmt.execute("CREATE DATABASE " + quote(snapshot) + " TEMPLATE " + quote(database) + copyStrategy(conn));
+                stmt.execute("ALTER DATABASE " + quote(snapshot) + " ALLOW_CONNECTIONS false");
+            } finally {
+                stmt.execute("ALTER DATABASE " + quote(database) + " ALLOW_CONNECTIONS true");
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to capture a template snapshot of " + database, e);
+        }
+    }
+
+    @Override
+    public void restore() {
+        try (Connection conn = getMaintenanceConnection();
+             Statement stmt = conn.createStatement()) {
+            ConnectionPool.evictConnections();
+            stmt.execute("DROP DATABASE IF EXISTS " + quote(database) + " WITH (FORCE)");
+            stmt.execute("CREATE DATABASE " + quote(database) + " TEMPLATE " + quote(snapshot) + copyStrategy(conn));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to restore " + database + " from " + snapshot, e);
+        }
+    }
+
+    @Override
+    public boolean exists() {
+        try (Connection conn = getMaintenanceConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT 1 FROM pg_database WHERE datname = ?")) {
+            stmt.setString(1, snapshot);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to look up " + snapshot, e);
+        }
+    }
+
+    private static void terminateSessions(Connection conn, String database) throws SQLException {
+        String sql = "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE datname = ? AND pid <> pg_backend_pid()";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, database);
+            stmt.executeQuery().close();
+        }
+    }
+
+    /**
+     * Since PostgreSQL 15 the default strategy WAL-logs every copied block; a plain file copy is much faster
+     * for large databases.
+     */
+    private static String copyStrategy(Connection conn) throws SQLException {
+        return conn.getMetaData().getDatabaseMajorVersion() >= FILE_COPY_MIN_MAJOR_VERSION
+                ? " STRATEGY = FILE_COPY"
+                : "";
+    }
+
+    private static Connection getMaintenanceConnection() throws SQLException {
+        DbConfig config = DbConfig.get();
+        return DriverManager.getConnection(config.getMaintenanceJdbcUrl(), config.getUser(), config.getPassword());
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,106 @@
+package com.family_tasks.utils.db;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the schema a test JVM works in when {@code DB_ISOLATION=SCHEMA}, so surefire forks don't see each
+ * other's rows. The task-tracker tables are cloned from {@code public} with their defaults, indexes and
+ * constraints; every serial column gets a sequence of its own, and the foreign keys are recreated to point
+ * at the tables in the same schema.
+ * <p>
+ * The schema is kept between runs; the application instance serving the worker targets it with
+ * {@code currentSchema=worker_<n>} in its datasource URL.
+ */
+public final class WorkerSchema {
+
+    private static final List<String> TABLES = List.of("users", "groups", "tasks", "executors_tasks", "rewards");
+
+    private WorkerSchema() {
+    }
+
+    public static void create(String schema) {
+        DbConfig config = DbConfig.get();
+        try (Connection conn = DriverManager.getConnection(config.getJdbcUrl(), config.getUser(), config.getPassword())) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("SELECT pg_advisory_xact_lock(hashtext('" + schema + "'))");
+                stmt.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+                for (String table : TABLES) {
+                    stmt.execute("CREATE TABLE IF NOT EXISTS " + schema + "." + table + " (LIKE public." + table + " INCLUDING ALL)");
+                }
+                createOwnSequences(conn, schema);
+                createForeignKeys(conn, schema);
+                conn.commit();
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create worker schema " + schema, e);
+        }
+    }
+
+    private static void createOwnSequences(Connection conn, String schema) throws SQLException {
+        String sql = """
+                SELECT table_name, column_name
+                FROM information_schema.columns
+                WHERE table_schema = 'public' AND table_name = ANY (?) AND column_default LIKE 'nextval(%'
+                """;
+        List<String[]> serialColumns = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setArray(1, conn.createArrayOf("text", TABLES.toArray()));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    serialColumns.add(new String[]{rs.getString(1), rs.getString(2)});
+                }
+            }
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            for (String[] column : serialColumns) {
+                String table = schema + "." + column[0];
+                String sequence = schema + "." + column[0] + "_" + column[1] + "_seq";
+                stmt.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " OWNED BY " + table + "." + column[1]);
+                stmt.execute("ALTER TABLE " + table + " ALTER COLUMN " + column[1]
+                        + " SET DEFAULT nextval('" + sequence + "'::regclass)");
+            }
+        }
+    }
+
+    /**
+     * {@code LIKE} doesn't copy foreign keys. Their definitions are read while {@code public} is on the search
+     * path, so the referenced tables come out unqualified and resolve to the worker schema when re-added.
+     */
+    private static void createForeignKeys(Connection conn, String schema) throws SQLException {
+        String sql = """
+                SELECT c.conrelid::regclass::text, c.conname, pg_get_constraintdef(c.oid)
+                FROM pg_constraint c
+                WHERE c.contype = 'f'
+                  AND c.connamespace = 'public'::regnamespace
+                  AND NOT EXISTS (SELECT 1 FROM pg_constraint w
+                                  WHERE w.conname = c.conname AND w.connamespace = ?::regnamespace)
+                """;
+        List<String> statements = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, schema);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String table = rs.getString(1);
+                    table = table.substring(table.lastIndexOf('.') + 1);
+                    if (TABLES.contains(table)) {
+                        statements.add("ALTER TABLE " + table + " ADD CONSTRAINT " + rs.getString(2) + " " + rs.getString(3));
+                    }
+                }
+            }
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("SET LOCAL search_path TO " + schema);
+            for (String statement : statements) {
+                stmt.execute(statement);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.family_tasks.utils.latency;
+
+import java.util.Comparator;
+
+/**
+ * What a latency distribution is kept for: an endpoint, e.g. {@code GET /v1/tasks?filter=ALL_AVAILABLE}, and the
+ * status code of its responses, {@value #NO_RESPONSE} for requests that failed without one.
+ */
+public record LatencyKey(String endpoint, int statusCode) implements Comparable<LatencyKey> {
+
+    public static final int NO_RESPONSE = 0;
+
+    private static final Comparator<LatencyKey> ORDER = Comparator.comparing(LatencyKey::endpoint)
+            .thenComparingInt(LatencyKey::statusCode);
+
+    /**
+     * The key as a histogram log tag, which can't contain spaces or commas.
+     */
+    public String tag() {
+        return endpoint.replace(' ', '_').replace(',', ';') + "|" + statusCode;
+    }
+
+    @Override
+    public int compareTo(LatencyKey other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public String toString() {
+        return endpoint + " " + (statusCode == NO_RESPONSE ? "no response" : statusCode);
+    }
+}
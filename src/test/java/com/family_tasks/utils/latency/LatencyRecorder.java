@@ -0,0 +1,214 @@
+package com.family_tasks.utils.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records the latency of every request into HdrHistograms per {@link LatencyKey}. Recording is thread-safe and
+ * doesn't allocate once an endpoint and status have been seen: recorders are looked up by the endpoint string and
+ * then by status code, so callers should reuse their endpoint strings.
+ * <p>
+ * Two distributions are kept per key. The response time runs from the time the request was meant to be sent,
+ * which corrects for coordinated omission: when the sender falls behind, the delay counts towards the requests
+ * that waited, instead of being hidden by sending them late. The service time runs from the actual send.
+ * <p>
+ * {@link #flushInterval()} moves what was recorded since the previous call into the totals and, for a recorder
+ * created with {@link #toLog(Path)}, appends the interval histograms to a log in the HdrHistogram log format, one
+ * tagged histogram per key and distribution. Logs of several runs or generators can be merged with the
+ * HdrHistogram log tools. {@link #close()} writes the last interval; latencies recorded after it still count
+ * towards the totals but aren't logged.
+ */
+public final class LatencyRecorder implements AutoCloseable {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] SUMMARY_PERCENTILES = {50, 90, 99, 99.9, 99.99, 99.999};
+    private static final int STATUS_CODES = 600;
+
+    private final ConcurrentMap<String, AtomicReferenceArray<Recorders>> recorders = new ConcurrentHashMap<>();
+    private final Map<LatencyKey, Histogram> responseTimes = new TreeMap<>();
+    private final Map<LatencyKey, Histogram> serviceTimes = new TreeMap<>();
+    private final HistogramLogWriter logWriter;
+    private boolean closed;
+
+    private LatencyRecorder(HistogramLogWriter logWriter) {
+        this.logWriter = logWriter;
+    }
+
+    public static LatencyRecorder inMemory() {
+        return new LatencyRecorder(null);
+    }
+
+    /**
+     * A recorder that also writes interval histograms to {@code logFile}, replacing it.
+     */
+    public static LatencyRecorder toLog(Path logFile) {
+        try {
+            Files.createDirectories(logFile.toAbsolutePath().getParent());
+            HistogramLogWriter writer = new HistogramLogWriter(logFile.toFile());
+            long now = System.currentTimeMillis();
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(now);
+            writer.setBaseTime(now);
+            writer.outputLegend();
+            return new LatencyRecorder(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create histogram log " + logFile, e);
+        }
+    }
+
+    /**
+     * Records one request; all times are {@link System#nanoTime()} values.
+     *
+     * @param intendedStartNanos when the request was scheduled to be sent
+     * @param sentNanos          when it was actually sent
+     * @param completedNanos     when its response, or failure, arrived
+     */
+    public void record(String endpoint, int statusCode, long intendedStartNanos, long sentNanos, long completedNanos) {
+        if (statusCode < 0 || statusCode >= STATUS_CODES) {
+            throw new IllegalArgumentException("Unexpected status code " + statusCode + " of " + endpoint);
+        }
+        AtomicReferenceArray<Recorders> byStatus = recorders.get(endpoint);
+        if (byStatus == null) {
+            byStatus = recorders.computeIfAbsent(endpoint, ignored -> new AtomicReferenceArray<>(STATUS_CODES));
+        }
+        Recorders keyRecorders = byStatus.get(statusCode);
+        if (keyRecorders == null) {
+            byStatus.compareAndSet(statusCode, null, new Recorders());
+            keyRecorders = byStatus.get(statusCode);
+        }
+        keyRecorders.responseTime.recordValue(clamp(completedNanos - intendedStartNanos));
+        keyRecorders.serviceTime.recordValue(clamp(completedNanos - sentNanos));
+    }
+
+    /**
+     * Adds the latencies recorded since the previous call to the totals and writes them to the log, if any.
+     */
+    public synchronized void flushInterval() {
+        recorders.forEach((endpoint, byStatus) -> {
+            for (int statusCode = 0; statusCode < STATUS_CODES; statusCode++) {
+                Recorders keyRecorders = byStatus.get(statusCode);
+                if (keyRecorders != null) {
+                    LatencyKey key = new LatencyKey(endpoint, statusCode);
+                    addInterval(key, "response", keyRecorders.responseTime.getIntervalHistogram(), responseTimes);
+                    addInterval(key, "service", keyRecorders.serviceTime.getIntervalHistogram(), serviceTimes);
+                }
+            }
+        });
+    }
+
+    /**
+     * Response times per key since the recorder was created, corrected for coordinated omission.
+     */
+    public synchronized Map<LatencyKey, Histogram> responseTimes() {
+        flushInterval();
+        return copy(responseTimes);
+    }
+
+    public synchronized Map<LatencyKey, Histogram> serviceTimes() {
+        flushInterval();
+        return copy(serviceTimes);
+    }
+
+    /**
+     * Writes the full percentile spectrum of the response times of each key, in milliseconds.
+     */
+    public synchronized void writePercentiles(PrintStream out) {
+        responseTimes().forEach((key, histogram) -> {
+            out.println("# " + key + " response time (ms)");
+            histogram.outputPercentileDistribution(out, 5, NANOS_PER_MILLI);
+            out.println();
+        });
+    }
+
+    public void writePercentiles(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (PrintStream out = new PrintStream(file.toFile())) {
+                writePercentiles(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write percentiles to " + file, e);
+        }
+    }
+
+    /**
+     * One line per key with the count and the p50 to p99.999 and maximum response and service times, in ms.
+     */
+    public synchronized String summary() {
+        Map<LatencyKey, Histogram> response = responseTimes();
+        Map<LatencyKey, Histogram> service = copy(serviceTimes);
+        StringBuilder summary = new StringBuilder(String.format("%-50s %10s %s%n", "endpoint status", "count",
+                "p50 / p90 / p99 / p99.9 / p99.99 / p99.999 / max response (service) ms"));
+        response.forEach((key, histogram) -> {
+            summary.append(String.format("%-50s %10d", key, histogram.getTotalCount()));
+            for (double percentile : SUMMARY_PERCENTILES) {
+                summary.append(String.format(" %9.2f (%.2f)", millis(histogram.getValueAtPercentile(percentile)),
+                        millis(service.get(key).getValueAtPercentile(percentile))));
+            }
+            summary.append(String.format(" %9.2f (%.2f)%n", millis(histogram.getMaxValue()),
+                    millis(service.get(key).getMaxValue())));
+        });
+        return summary.toString();
+    }
+
+    /**
+     * Flushes the last interval to the log and closes it. Calling it again has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        flushInterval();
+        closed = true;
+        if (logWriter != null) {
+            logWriter.close();
+        }
+    }
+
+    private void addInterval(LatencyKey key, String distribution, Histogram interval, Map<LatencyKey, Histogram> totals) {
+        if (logWriter != null && !closed && interval.getTotalCount() > 0) {
+            interval.setTag(key.tag() + "|" + distribution);
+            logWriter.outputIntervalHistogram(interval);
+        }
+        totals.computeIfAbsent(key, ignored -> newHistogram()).add(interval);
+    }
+
+    private static Map<LatencyKey, Histogram> copy(Map<LatencyKey, Histogram> histograms) {
+        Map<LatencyKey, Histogram> copy = new TreeMap<>();
+        histograms.forEach((key, histogram) -> copy.put(key, histogram.copy()));
+        return copy;
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    }
+
+    private static long clamp(long nanos) {
+        return Math.clamp(nanos, 0, HIGHEST_TRACKABLE_NANOS);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static final class Recorders {
+        private final Recorder responseTime = new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Recorder serviceTime = new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    }
+}
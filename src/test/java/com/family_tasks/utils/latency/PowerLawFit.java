@@ -0,0 +1,49 @@
+package com.family_tasks.utils.latency;
+
+/**
+ * Least-squares fit of {@code y = a * x^exponent} on a log-log scale. The exponent is the observed growth order:
+ * about 1 for values proportional to {@code x}, 0 for constant ones and above 1 for superlinear growth.
+ *
+ * @param rSquared how much of the variance of {@code log y} the fit explains, 1 for points on a straight line
+ */
+public record PowerLawFit(double exponent, double coefficient, double rSquared) {
+
+    public static PowerLawFit of(double[] x, double[] y) {
+        if (x.length != y.length || x.length < 2) {
+            throw new IllegalArgumentException("At least two (x, y) pairs are needed, got " + x.length + " x and " + y.length + " y");
+        }
+        int n = x.length;
+        double[] logX = new double[n];
+        double[] logY = new double[n];
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; i++) {
+            if (x[i] <= 0 || y[i] <= 0) {
+                throw new IllegalArgumentException("Values must be positive: (" + x[i] + ", " + y[i] + ")");
+            }
+            logX[i] = Math.log(x[i]);
+            logY[i] = Math.log(y[i]);
+            meanX += logX[i] / n;
+            meanY += logY[i] / n;
+        }
+        double covariance = 0;
+        double varianceX = 0;
+        double varianceY = 0;
+        for (int i = 0; i < n; i++) {
+            covariance += (logX[i] - meanX) * (logY[i] - meanY);
+            varianceX += (logX[i] - meanX) * (logX[i] - meanX);
+            varianceY += (logY[i] - meanY) * (logY[i] - meanY);
+        }
+        if (varianceX == 0) {
+            throw new IllegalArgumentException("All x values are equal");
+        }
+        double exponent = covariance / varianceX;
+        double rSquared = varianceY == 0 ? 1 : covariance * covariance / (varianceX * varianceY);
+        return new PowerLawFit(exponent, Math.exp(meanY - exponent * meanX), rSquared);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("~x^%.2f (R² %.3f)", exponent, rSquared);
+    }
+}
@@ -0,0 +1,24 @@
+package com.family_tasks.utils.mapper;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Conversions of the API's date-time strings, used by the generated mappers and to compare timestamps. Timestamps
+ * with an offset keep their local date-time, as the entities don't carry a zone.
+ */
+public final class ApiDateTimes {
+
+    private ApiDateTimes() {
+    }
+
+    public static LocalDateTime toLocalDateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        TemporalAccessor parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest(value, OffsetDateTime::from, LocalDateTime::from);
+        return parsed instanceof OffsetDateTime offset ? offset.toLocalDateTime() : (LocalDateTime) parsed;
+    }
+}
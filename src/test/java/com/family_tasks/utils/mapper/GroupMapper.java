@@ -0,0 +1,15 @@
+package com.family_tasks.utils.mapper;
+
+import com.family_tasks.dto.group.GroupEntity;
+import com.family_tasks.utils.response.GroupResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.DEFAULT, uses = ApiDateTimes.class)
+public interface GroupMapper {
+
+    GroupMapper INSTANCE = Mappers.getMapper(GroupMapper.class);
+
+    GroupEntity toEntity(GroupResponse group);
+}
@@ -0,0 +1,35 @@
+package com.family_tasks.utils.mapper;
+
+import com.family_tasks.dto.task.TaskCreateRequest;
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.dto.task.TaskUpdateRequest;
+import com.family_tasks.utils.response.TaskResponse;
+import org.mapstruct.*;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.DEFAULT, uses = ApiDateTimes.class)
+public interface TaskMapper {
+
+    TaskMapper INSTANCE = Mappers.getMapper(TaskMapper.class);
+
+    /**
+     * The entity a decoded task response describes; date-times are parsed with {@link ApiDateTimes}.
+     */
+    TaskEntity toEntity(TaskResponse task);
+
+    @Mapping(target = "executorIds", ignore = true)
+    TaskCreateRequest toCreateRequest(TaskEntity task);
+
+    @Mapping(target = "executorIds", ignore = true)
+    TaskUpdateRequest toUpdateRequest(TaskEntity task);
+
+    /**
+     * Applies the non-null fields of an update request, giving the task state expected after the update.
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "taskId", ignore = true)
+    @Mapping(target = "reporterId", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void applyUpdate(TaskUpdateRequest request, @MappingTarget TaskEntity task);
+}
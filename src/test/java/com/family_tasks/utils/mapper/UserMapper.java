@@ -0,0 +1,18 @@
+package com.family_tasks.utils.mapper;
+
+import com.family_tasks.dto.user.User;
+import com.family_tasks.dto.user.UserEntity;
+import com.family_tasks.utils.response.UserResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.DEFAULT, uses = ApiDateTimes.class)
+public interface UserMapper {
+
+    UserMapper INSTANCE = Mappers.getMapper(UserMapper.class);
+
+    UserEntity toEntity(UserResponse user);
+
+    User toUser(UserEntity user);
+}
@@ -0,0 +1,10 @@
+package com.family_tasks.utils.response;
+
+import io.restassured.response.Response;
+
+public record ErrorResponse(String errorMessage) {
+
+    public static ErrorResponse from(Response response) {
+        return ResponseParser.error(response.asByteArray());
+    }
+}
@@ -0,0 +1,10 @@
+package com.family_tasks.utils.response;
+
+import io.restassured.response.Response;
+
+public record GroupResponse(Integer groupId, Integer ownerId, String createdAt, String updatedAt, String deletedAt) {
+
+    public static GroupResponse from(Response response) {
+        return ResponseParser.group(response.asByteArray());
+    }
+}
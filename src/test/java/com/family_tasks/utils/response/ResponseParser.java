@@ -0,0 +1,186 @@
+package com.family_tasks.utils.response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decodes response bodies into the response records in one pass over the JSON tokens, without building a tree
+ * or evaluating path expressions. Unknown fields are skipped.
+ */
+public final class ResponseParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ResponseParser() {
+    }
+
+    public static TaskResponse task(byte[] body) {
+        return parse(body, parser -> {
+            expect(parser, JsonToken.START_OBJECT);
+            return readTask(parser);
+        });
+    }
+
+    public static List<TaskResponse> tasks(byte[] body) {
+        return parse(body, parser -> {
+            expect(parser, JsonToken.START_ARRAY);
+            List<TaskResponse> tasks = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                tasks.add(readTask(parser));
+            }
+            return List.copyOf(tasks);
+        });
+    }
+
+    public static UserResponse user(byte[] body) {
+        return parse(body, parser -> {
+            expect(parser, JsonToken.START_OBJECT);
+            Integer id = null;
+            String name = null;
+            Boolean admin = null;
+            Integer groupId = null;
+            String createdAt = null;
+            String updatedAt = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "id" -> id = readInteger(parser);
+                    case "name" -> name = parser.getValueAsString();
+                    case "admin" -> admin = readBoolean(parser);
+                    case "groupId" -> groupId = readInteger(parser);
+                    case "createdAt" -> createdAt = parser.getValueAsString();
+                    case "updatedAt" -> updatedAt = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            return new UserResponse(id, name, admin, groupId, createdAt, updatedAt);
+        });
+    }
+
+    public static GroupResponse group(byte[] body) {
+        return parse(body, parser -> {
+            expect(parser, JsonToken.START_OBJECT);
+            Integer groupId = null;
+            Integer ownerId = null;
+            String createdAt = null;
+            String updatedAt = null;
+            String deletedAt = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "groupId" -> groupId = readInteger(parser);
+                    case "ownerId" -> ownerId = readInteger(parser);
+                    case "createdAt" -> createdAt = parser.getValueAsString();
+                    case "updatedAt" -> updatedAt = parser.getValueAsString();
+                    case "deletedAt" -> deletedAt = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            return new GroupResponse(groupId, ownerId, createdAt, updatedAt, deletedAt);
+        });
+    }
+
+    public static ErrorResponse error(byte[] body) {
+        return parse(body, parser -> {
+            expect(parser, JsonToken.START_OBJECT);
+            String errorMessage = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("errorMessage".equals(field)) {
+                    errorMessage = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new ErrorResponse(errorMessage);
+        });
+    }
+
+    /**
+     * Reads the fields of a task object; the parser is positioned at its {@code START_OBJECT}.
+     */
+    static TaskResponse readTask(JsonParser parser) throws IOException {
+        String taskId = null;
+        String name = null;
+        String status = null;
+        String description = null;
+        String priority = null;
+        Integer reporterId = null;
+        Boolean confidential = null;
+        Integer rewardsPoints = null;
+        String deadline = null;
+        String createdAt = null;
+        String updatedAt = null;
+        Set<Integer> executorIds = Set.of();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "taskId" -> taskId = parser.getValueAsString();
+                case "name" -> name = parser.getValueAsString();
+                case "status" -> status = parser.getValueAsString();
+                case "description" -> description = parser.getValueAsString();
+                case "priority" -> priority = parser.getValueAsString();
+                case "reporterId" -> reporterId = readInteger(parser);
+                case "confidential" -> confidential = readBoolean(parser);
+                case "rewardsPoints" -> rewardsPoints = readInteger(parser);
+                case "deadline" -> deadline = parser.getValueAsString();
+                case "createdAt" -> createdAt = parser.getValueAsString();
+                case "updatedAt" -> updatedAt = parser.getValueAsString();
+                case "executorIds" -> executorIds = readIntegerSet(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new TaskResponse(taskId, name, status, description, priority, reporterId, confidential,
+                rewardsPoints, deadline, createdAt, updatedAt, executorIds);
+    }
+
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+    }
+
+    private static Boolean readBoolean(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getBooleanValue();
+    }
+
+    private static Set<Integer> readIntegerSet(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return Set.of();
+        }
+        Set<Integer> values = new HashSet<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(parser.getIntValue());
+        }
+        return Set.copyOf(values);
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.nextToken() != token) {
+            throw new IOException("Expected " + token + " but got " + parser.currentToken());
+        }
+    }
+
+    private static <T> T parse(byte[] body, Reader<T> reader) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return reader.read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse response body", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,68 @@
+package com.family_tasks.utils.response;
+
+import com.family_tasks.dto.task.TaskEntity;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assertions on a task list response. The body is decoded and indexed by {@code taskId} once, so checking
+ * {@code n} expected tasks costs {@code O(n)} lookups instead of a scan of the list per task and field.
+ * All mismatches are collected and reported in one {@link AssertionError}.
+ */
+public final class TaskListAssert {
+
+    private final List<TaskResponse> tasks;
+    private final Map<String, TaskResponse> tasksById;
+    private final List<String> duplicateIds = new ArrayList<>();
+
+    private TaskListAssert(List<TaskResponse> tasks) {
+        this.tasks = tasks;
+        this.tasksById = HashMap.newHashMap(tasks.size());
+        for (TaskResponse task : tasks) {
+            if (tasksById.putIfAbsent(task.taskId(), task) != null) {
+                duplicateIds.add(task.taskId());
+            }
+        }
+    }
+
+    public static TaskListAssert assertThatTasks(Response response) {
+        return new TaskListAssert(ResponseParser.tasks(response.asByteArray()));
+    }
+
+    public static TaskListAssert assertThatTasks(byte[] body) {
+        return new TaskListAssert(ResponseParser.tasks(body));
+    }
+
+    /**
+     * Verifies that every expected task is in the response, once, with the stored fields and non-null timestamps.
+     */
+    public TaskListAssert containsTasks(Collection<TaskEntity> expected) {
+        TaskMismatches mismatches = new TaskMismatches();
+        for (String taskId : duplicateIds) {
+            mismatches.add("task " + taskId + ": returned more than once");
+        }
+        for (TaskEntity task : expected) {
+            TaskResponse actual = tasksById.get(task.getTaskId());
+            if (actual == null) {
+                mismatches.add("task " + task.getTaskId() + ": missing");
+                continue;
+            }
+            mismatches.compareFields(task, actual);
+        }
+        mismatches.failIfAny(tasks.size());
+        return this;
+    }
+
+    public List<TaskResponse> tasks() {
+        return tasks;
+    }
+
+    public List<String> statuses() {
+        return tasks.stream().map(TaskResponse::status).toList();
+    }
+}
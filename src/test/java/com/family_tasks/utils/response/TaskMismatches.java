@@ -0,0 +1,77 @@
+package com.family_tasks.utils.response;
+
+import com.family_tasks.dto.task.TaskEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Differences found between expected tasks and a task list response, shared by {@link TaskListAssert} and
+ * {@link TaskStreamVerifier}. All mismatches are counted, only the first {@value #MAX_REPORTED} are kept.
+ */
+final class TaskMismatches {
+
+    static final int MAX_REPORTED = 50;
+
+    private final List<String> reported = new ArrayList<>();
+    private long total;
+
+    void add(String mismatch) {
+        total++;
+        if (reported.size() < MAX_REPORTED) {
+            reported.add(mismatch);
+        }
+    }
+
+    /**
+     * Compares the stored fields of a task with the returned ones and requires non-null timestamps.
+     */
+    void compareFields(TaskEntity expected, TaskResponse actual) {
+        String taskId = expected.getTaskId();
+        compare(taskId, "name", expected.getName(), actual.name());
+        compare(taskId, "status", expected.getStatus(), actual.status());
+        compare(taskId, "priority", expected.getPriority(), actual.priority());
+        compare(taskId, "reporterId", expected.getReporterId(), actual.reporterId());
+        compare(taskId, "description", expected.getDescription(), actual.description());
+        compare(taskId, "confidential", expected.isConfidential(), actual.confidential());
+        compare(taskId, "deadline",
+                expected.getDeadline() == null ? null : expected.getDeadline().toString(), actual.deadline());
+        if (actual.createdAt() == null) {
+            add("task " + taskId + ": createdAt is null");
+        }
+        if (actual.updatedAt() == null) {
+            add("task " + taskId + ": updatedAt is null");
+        }
+    }
+
+    long total() {
+        return total;
+    }
+
+    List<String> reported() {
+        return List.copyOf(reported);
+    }
+
+    void failIfAny(long tasks) {
+        if (total > 0) {
+            throw new AssertionError(message(total, reported, tasks));
+        }
+    }
+
+    static String message(long total, List<String> reported, long tasks) {
+        StringBuilder message = new StringBuilder()
+                .append(total).append(" mismatch(es) in a list of ").append(tasks).append(" tasks:");
+        reported.forEach(mismatch -> message.append(System.lineSeparator()).append("  ").append(mismatch));
+        if (total > reported.size()) {
+            message.append(System.lineSeparator()).append("  ... and ").append(total - reported.size()).append(" more");
+        }
+        return message.toString();
+    }
+
+    private void compare(String taskId, String field, Object expected, Object actual) {
+        if (!Objects.equals(expected, actual)) {
+            add("task " + taskId + ": " + field + " expected <" + expected + "> but was <" + actual + ">");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.family_tasks.utils.response;
+
+import io.restassured.response.Response;
+
+import java.util.Set;
+
+/**
+ * A task as returned by the tasks endpoints. Dates are kept as the strings the API sends.
+ *
+ * @param executorIds empty, never {@code null}, when the field is missing or {@code null}
+ */
+public record TaskResponse(String taskId,
+                           String name,
+                           String status,
+                           String description,
+                           String priority,
+                           Integer reporterId,
+                           Boolean confidential,
+                           Integer rewardsPoints,
+                           String deadline,
+                           String createdAt,
+                           String updatedAt,
+                           Set<Integer> executorIds) {
+
+    public static TaskResponse from(Response response) {
+        return ResponseParser.task(response.asByteArray());
+    }
+}
@@ -0,0 +1,188 @@
+package com.family_tasks.utils.response;
+
+import com.family_tasks.dto.task.TaskEntity;
+import com.family_tasks.enums.TaskFilter;
+import com.family_tasks.enums.TaskStatus;
+import com.family_tasks.utils.mapper.ApiDateTimes;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Verifies a {@code GET /v1/tasks} body while reading it as a token stream: one task is decoded at a time and
+ * checked for membership in the filter, ordering against the previous task and, if expected tasks are given,
+ * field equality. Memory use doesn't grow with the response; only the expected tasks and the first
+ * {@value TaskMismatches#MAX_REPORTED} mismatches are kept.
+ * <p>
+ * Membership follows {@link TaskEntity#isActiveTask()} and {@link TaskEntity#isCompletedTask()}; {@code ALL_CLOSED}
+ * means cancelled tasks. For reporter and executor filters the user must be the reporter or one of the executors,
+ * so a task listed for an executor without {@code executorIds} is a mismatch.
+ */
+public final class TaskStreamVerifier {
+
+    /**
+     * The order the API lists tasks in: by creation time, oldest first.
+     */
+    public static final Comparator<TaskResponse> CREATION_ORDER = Comparator.comparing(
+            task -> ApiDateTimes.toLocalDateTime(task.createdAt()), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Set<String> ACTIVE_STATUSES = Set.of(TaskStatus.TO_DO.name(), TaskStatus.IN_PROGRESS.name());
+
+    private final TaskFilter filter;
+    private final int userId;
+    private final Predicate<TaskResponse> membership;
+    private final Predicate<TaskResponse> expectedMembership;
+    private Map<String, TaskEntity> expected = Map.of();
+    private Comparator<TaskResponse> ordering;
+
+    private TaskStreamVerifier(TaskFilter filter, int userId) {
+        this.filter = filter;
+        this.userId = userId;
+        this.membership = membership(filter, userId, true);
+        this.expectedMembership = membership(filter, userId, false);
+    }
+
+    public static TaskStreamVerifier forFilter(TaskFilter filter, int userId) {
+        return new TaskStreamVerifier(filter, userId);
+    }
+
+    /**
+     * The tasks the response is compared with. Those belonging to the filter must all be present, with equal
+     * fields; tasks outside of the filter must be absent.
+     */
+    public TaskStreamVerifier expecting(Collection<TaskEntity> tasks) {
+        expected = HashMap.newHashMap(tasks.size());
+        tasks.forEach(task -> expected.put(task.getTaskId(), task));
+        return this;
+    }
+
+    /**
+     * Requires each task not to sort before the previous one.
+     */
+    public TaskStreamVerifier ordered(Comparator<TaskResponse> ordering) {
+        this.ordering = ordering;
+        return this;
+    }
+
+    public Report verify(Response response) {
+        return verify(response.asInputStream());
+    }
+
+    public Report verify(byte[] body) {
+        try {
+            return verify(JSON_FACTORY.createParser(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read task list", e);
+        }
+    }
+
+    public Report verify(InputStream body) {
+        try {
+            return verify(JSON_FACTORY.createParser(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read task list", e);
+        }
+    }
+
+    private Report verify(JsonParser parser) throws IOException {
+        TaskMismatches mismatches = new TaskMismatches();
+        Map<String, TaskEntity> pending = new HashMap<>(expected);
+        long startNanos = System.nanoTime();
+        long count = 0;
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new AssertionError("Expected a JSON array but got " + parser.currentToken());
+            }
+            TaskResponse previous = null;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                TaskResponse task = ResponseParser.readTask(parser);
+                count++;
+                if (!membership.test(task)) {
+                    mismatches.add("task " + task.taskId() + " with status " + task.status() + ", reporter "
+                            + task.reporterId() + " and executors " + task.executorIds()
+                            + " doesn't belong to " + filter + " of user " + userId);
+                }
+                if (ordering != null && previous != null && ordering.compare(previous, task) > 0) {
+                    mismatches.add("task " + task.taskId() + " at index " + (count - 1) + " is out of order");
+                }
+                TaskEntity expectedTask = pending.remove(task.taskId());
+                if (expectedTask != null) {
+                    mismatches.compareFields(expectedTask, task);
+                } else if (expected.containsKey(task.taskId())) {
+                    mismatches.add("task " + task.taskId() + ": returned more than once");
+                }
+                previous = task;
+            }
+            long bytes = parser.currentLocation().getByteOffset();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+            pending.values().stream()
+                    .filter(task -> expectedMembership.test(toResponse(task)))
+                    .forEach(task -> mismatches.add("task " + task.getTaskId() + ": missing"));
+            return new Report(count, bytes, elapsed, mismatches.total(), mismatches.reported());
+        }
+    }
+
+    /**
+     * @param executorsKnown whether the tasks tested carry their executors; expected tasks don't, so executor
+     *                       filters only look at their status
+     */
+    private static Predicate<TaskResponse> membership(TaskFilter filter, int userId, boolean executorsKnown) {
+        Predicate<TaskResponse> reporter = task -> Objects.equals(task.reporterId(), userId);
+        Predicate<TaskResponse> executor = executorsKnown ? task -> task.executorIds().contains(userId) : task -> true;
+        Predicate<TaskResponse> active = task -> ACTIVE_STATUSES.contains(task.status());
+        Predicate<TaskResponse> completed = task -> TaskStatus.COMPLETED.name().equals(task.status());
+        return switch (filter) {
+            case IS_REPORTER_ACTIVE_TASK -> reporter.and(active);
+            case IS_EXECUTOR_ACTIVE_TASK -> executor.and(active);
+            case IS_REPORTER_COMPLETED_TASK -> reporter.and(completed);
+            case IS_EXECUTOR_COMPLETED_TASK -> executor.and(completed);
+            case ALL_AVAILABLE -> task -> true;
+            case ALL_CLOSED -> task -> TaskStatus.CANCELLED.name().equals(task.status());
+        };
+    }
+
+    /**
+     * The fields of an expected task that membership depends on, for tasks absent from the response.
+     */
+    private static TaskResponse toResponse(TaskEntity task) {
+        return new TaskResponse(task.getTaskId(), task.getName(), task.getStatus(), task.getDescription(),
+                task.getPriority(), task.getReporterId(), task.isConfidential(), task.getRewardsPoints(),
+                null, null, null, Set.of());
+    }
+
+    public record Report(long tasks, long bytes, Duration elapsed, long mismatchCount, List<String> mismatches) {
+
+        public double bytesPerSecond() {
+            long nanos = Math.max(1, elapsed.toNanos());
+            return bytes * 1_000_000_000.0 / nanos;
+        }
+
+        public Report assertNoMismatches() {
+            if (mismatchCount == 0) {
+                return this;
+            }
+            throw new AssertionError(TaskMismatches.message(mismatchCount, mismatches, tasks));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d tasks, %d bytes in %d ms (%.1f MiB/s), %d mismatch(es)",
+                    tasks, bytes, elapsed.toMillis(), bytesPerSecond() / (1024 * 1024), mismatchCount);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.family_tasks.utils.response;
+
+import io.restassured.response.Response;
+
+public record UserResponse(Integer id, String name, Boolean admin, Integer groupId, String createdAt, String updatedAt) {
+
+    public static UserResponse from(Response response) {
+        return ResponseParser.user(response.asByteArray());
+    }
+}
@@ -0,0 +1,48 @@
+package com.family_tasks.utils.schema;
+
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The JSON Schemas of the API payloads under {@code src/test/resources/schemas}. All of them are loaded and
+ * compiled once per JVM, on first use; list responses are validated element by element against the item schema.
+ */
+public enum ApiSchema {
+
+    TASK("task.json"),
+    USER("user.json"),
+    GROUP("group.json"),
+    ERROR("error.json");
+
+    private final String resource;
+
+    ApiSchema(String resource) {
+        this.resource = resource;
+    }
+
+    public JsonSchema compiled() {
+        return Compiled.SCHEMAS.get(this);
+    }
+
+    private static final class Compiled {
+
+        private static final Map<ApiSchema, JsonSchema> SCHEMAS = compileAll();
+
+        private static Map<ApiSchema, JsonSchema> compileAll() {
+            JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+            Map<ApiSchema, JsonSchema> schemas = new EnumMap<>(ApiSchema.class);
+            for (ApiSchema schema : values()) {
+                try {
+                    schemas.put(schema, factory.getJsonSchema("resource:/schemas/" + schema.resource));
+                } catch (ProcessingException e) {
+                    throw new RuntimeException("Failed to compile schema " + schema.resource, e);
+                }
+            }
+            return schemas;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.family_tasks.utils.schema;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates every {@code n}-th response offered to it, for load runs where validating each response would cost
+ * more than the request. Thread-safe; violations are counted rather than thrown so a run can report them at the end.
+ */
+public final class SchemaSampler {
+
+    private final int every;
+    private final AtomicLong offered = new AtomicLong();
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder violations = new LongAdder();
+
+    public SchemaSampler(int every) {
+        if (every < 1) {
+            throw new IllegalArgumentException("Sampling interval must be positive: " + every);
+        }
+        this.every = every;
+    }
+
+    /**
+     * Validates the body if it is sampled. Returns {@code false} only for a sampled body that doesn't match.
+     */
+    public boolean offer(ApiSchema schema, byte[] body) {
+        return !sampled() || record(SchemaValidator.matches(schema, body));
+    }
+
+    /**
+     * Like {@link #offer(ApiSchema, byte[])} for a list body whose elements must match {@code itemSchema}.
+     */
+    public boolean offerList(ApiSchema itemSchema, byte[] body) {
+        return !sampled() || record(SchemaValidator.eachMatches(itemSchema, body));
+    }
+
+    public long checked() {
+        return checked.sum();
+    }
+
+    public long violations() {
+        return violations.sum();
+    }
+
+    private boolean sampled() {
+        return offered.getAndIncrement() % every == 0;
+    }
+
+    private boolean record(boolean valid) {
+        checked.increment();
+        if (!valid) {
+            violations.increment();
+        }
+        return valid;
+    }
+}
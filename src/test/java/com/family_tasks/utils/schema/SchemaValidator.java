@@ -0,0 +1,142 @@
+package com.family_tasks.utils.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates response bodies against the precompiled {@link ApiSchema}s.
+ * <p>
+ * List bodies are read as a token stream: each element is materialized as a tree, validated and dropped before
+ * the next one is read, so a large list never exists as one tree. The {@code matches} variants only answer
+ * yes or no and skip building reports, for sampling in load runs.
+ */
+public final class SchemaValidator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_REPORTED_VIOLATIONS = 20;
+
+    private SchemaValidator() {
+    }
+
+    public static void assertMatches(ApiSchema schema, Response response) {
+        assertMatches(schema, response.asByteArray());
+    }
+
+    public static void assertMatches(ApiSchema schema, byte[] body) {
+        List<String> violations = new ArrayList<>();
+        collectViolations(schema, readTree(body), "$", violations);
+        failIfAny(schema, violations);
+    }
+
+    /**
+     * Asserts that the body is a JSON array and that each element matches {@code itemSchema}.
+     */
+    public static void assertEachMatches(ApiSchema itemSchema, Response response) {
+        assertEachMatches(itemSchema, response.asInputStream());
+    }
+
+    public static void assertEachMatches(ApiSchema itemSchema, byte[] body) {
+        assertEachMatches(itemSchema, () -> OBJECT_MAPPER.createParser(body));
+    }
+
+    public static void assertEachMatches(ApiSchema itemSchema, InputStream body) {
+        assertEachMatches(itemSchema, () -> OBJECT_MAPPER.createParser(body));
+    }
+
+    public static boolean matches(ApiSchema schema, byte[] body) {
+        try {
+            return schema.compiled().validInstance(OBJECT_MAPPER.readTree(body));
+        } catch (IOException | ProcessingException e) {
+            return false;
+        }
+    }
+
+    public static boolean eachMatches(ApiSchema itemSchema, byte[] body) {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return false;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (!itemSchema.compiled().validInstance(OBJECT_MAPPER.readTree(parser))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException | ProcessingException e) {
+            return false;
+        }
+    }
+
+    private static void assertEachMatches(ApiSchema itemSchema, ParserSource source) {
+        List<String> violations = new ArrayList<>();
+        try (JsonParser parser = source.open()) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new AssertionError("Expected a JSON array but got " + parser.currentToken());
+            }
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                collectViolations(itemSchema, OBJECT_MAPPER.readTree(parser), "$[" + index++ + "]", violations);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read list body", e);
+        }
+        failIfAny(itemSchema, violations);
+    }
+
+    private static void collectViolations(ApiSchema schema, JsonNode instance, String path, List<String> violations) {
+        ProcessingReport report;
+        try {
+            report = schema.compiled().validate(instance);
+        } catch (ProcessingException e) {
+            throw new RuntimeException("Failed to validate against schema " + schema, e);
+        }
+        if (report.isSuccess()) {
+            return;
+        }
+        for (ProcessingMessage message : report) {
+            JsonNode pointer = message.asJson().path("instance").path("pointer");
+            violations.add(path + pointer.asText("") + ": " + message.getMessage());
+        }
+    }
+
+    private static JsonNode readTree(byte[] body) {
+        try {
+            return OBJECT_MAPPER.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse response body", e);
+        }
+    }
+
+    private static void failIfAny(ApiSchema schema, List<String> violations) {
+        if (violations.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder()
+                .append(violations.size()).append(" violation(s) of the ").append(schema).append(" schema:");
+        violations.stream()
+                .limit(MAX_REPORTED_VIOLATIONS)
+                .forEach(violation -> message.append(System.lineSeparator()).append("  ").append(violation));
+        if (violations.size() > MAX_REPORTED_VIOLATIONS) {
+            message.append(System.lineSeparator()).append("  ... and ")
+                    .append(violations.size() - MAX_REPORTED_VIOLATIONS).append(" more");
+        }
+        throw new AssertionError(message.toString());
+    }
+
+    @FunctionalInterface
+    private interface ParserSource {
+        JsonParser open() throws IOException;
+    }
+}